@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.api;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class ExecutorAsyncHttpVerification implements AsyncHttpVerification {
+
+  private final HttpVerification verification;
+  private final Executor executor;
+
+  @Override
+  public CompletableFuture<HttpVerification> never() {
+    return async(verification::never);
+  }
+
+  @Override
+  public CompletableFuture<HttpVerification> once() {
+    return async(verification::once);
+  }
+
+  @Override
+  public CompletableFuture<HttpVerification> exactly(int times) {
+    return async(() -> verification.exactly(times));
+  }
+
+  @Override
+  public CompletableFuture<HttpVerification> atLeast(int times) {
+    return async(() -> verification.atLeast(times));
+  }
+
+  @Override
+  public CompletableFuture<HttpVerification> atMost(int times) {
+    return async(() -> verification.atMost(times));
+  }
+
+  @Override
+  public CompletableFuture<HttpVerification> between(int atLeast, int atMost) {
+    return async(() -> verification.between(atLeast, atMost));
+  }
+
+  private CompletableFuture<HttpVerification> async(Supplier<HttpVerification> verification) {
+    return CompletableFuture.supplyAsync(verification, executor);
+  }
+}
@@ -16,11 +16,16 @@
 package pl.kubie.fluentmocks.http.api;
 
 import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 
 public interface HttpMock {
 
   HttpVerification verify();
 
+  default AsyncHttpVerification verifyAsync() {
+    return new ExecutorAsyncHttpVerification(verify(), MockScope.propagating(ForkJoinPool.commonPool()));
+  }
+
   HttpMock await();
 
   HttpMock await(Duration timeout);
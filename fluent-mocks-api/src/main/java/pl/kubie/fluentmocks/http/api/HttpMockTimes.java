@@ -15,10 +15,25 @@
  */
 package pl.kubie.fluentmocks.http.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
 public interface HttpMockTimes {
   HttpMock unlimited();
 
   HttpMock exactly(int times);
 
   HttpMock once();
+
+  default CompletableFuture<HttpMock> unlimitedAsync() {
+    return CompletableFuture.supplyAsync(this::unlimited, MockScope.propagating(ForkJoinPool.commonPool()));
+  }
+
+  default CompletableFuture<HttpMock> exactlyAsync(int times) {
+    return CompletableFuture.supplyAsync(() -> exactly(times), MockScope.propagating(ForkJoinPool.commonPool()));
+  }
+
+  default CompletableFuture<HttpMock> onceAsync() {
+    return CompletableFuture.supplyAsync(this::once, MockScope.propagating(ForkJoinPool.commonPool()));
+  }
 }
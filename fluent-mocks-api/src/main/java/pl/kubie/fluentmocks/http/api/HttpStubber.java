@@ -18,6 +18,7 @@ package pl.kubie.fluentmocks.http.api;
 
 import pl.kubie.fluentmocks.http.api.request.MockHttpRequestSpec;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface HttpStubber {
@@ -32,12 +33,42 @@ public interface HttpStubber {
     return stub().when(onRequest);
   }
 
+  default List<HttpMock> batch(Consumer<HttpStubber> onBatch) {
+    var batch = new SequentialBatch(this);
+    onBatch.accept(batch);
+    return batch.mocks();
+  }
+
+  default HttpMockPrototype prototype(Consumer<HttpMockSpec> onPrototype) {
+    return new ReplayedPrototype(this, onPrototype);
+  }
+
+  default void verifyAll(Consumer<HttpVerifications> onVerifications) {
+    onVerifications.accept(HttpMock::verify);
+  }
+
   String host();
 
   int port();
 
   void clearMocks();
 
+  /**
+   * Clears mocks of the current scope together with the global ones, when no other test can be using them.
+   */
+  default void clearMocksWithGlobal() {
+    clearMocks();
+    var scope = MockScope.current();
+    if (!MockScope.GLOBAL.equals(scope)) {
+      MockScope.exit();
+      try {
+        clearMocks();
+      } finally {
+        MockScope.enter(scope);
+      }
+    }
+  }
+
   default String baseUrl() {
     return "http://%s:%s/".formatted(host(), port());
   }
@@ -0,0 +1,60 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.api;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.Executor;
+
+@UtilityClass
+public class MockScope {
+
+  public static final String GLOBAL = "";
+
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  public static String current() {
+    var scope = CURRENT.get();
+    return scope == null ? GLOBAL : scope;
+  }
+
+  public static void enter(String scope) {
+    CURRENT.set(scope);
+  }
+
+  public static void exit() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Runs tasks in the scope of the thread submitting them. Pooled threads are shared between tests,
+   * so the scope is not inherited from the thread that created them.
+   */
+  public static Executor propagating(Executor executor) {
+    return task -> {
+      var scope = CURRENT.get();
+      executor.execute(() -> {
+        var previous = CURRENT.get();
+        CURRENT.set(scope);
+        try {
+          task.run();
+        } finally {
+          CURRENT.set(previous);
+        }
+      });
+    };
+  }
+}
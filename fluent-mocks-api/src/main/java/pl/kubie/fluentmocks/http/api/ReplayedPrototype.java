@@ -0,0 +1,77 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.api;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+/**
+ * Default {@link HttpStubber#prototype(Consumer)}, replaying the prototype on a new stub for each variant.
+ * Only path parameters can vary, JSON overrides need the stubber's own prototypes.
+ */
+@RequiredArgsConstructor
+class ReplayedPrototype implements HttpMockPrototype {
+
+  private final HttpStubber stubber;
+  private final Consumer<HttpMockSpec> onPrototype;
+
+  @Override
+  public HttpMockTimes instantiate(Consumer<HttpMockVariant> onVariant) {
+    var stub = stubber.stub();
+    onPrototype.accept(stub);
+    onVariant.accept(new ReplayedVariant(stub));
+    return stub.times();
+  }
+
+  @RequiredArgsConstructor
+  private class ReplayedVariant implements HttpMockVariant {
+
+    private final HttpMockSpec stub;
+
+    @Override
+    public HttpMockVariant pathParameter(String name, String value) {
+      stub.request().url(url -> url.pathParameter(name, value));
+      return this;
+    }
+
+    @Override
+    public HttpMockVariant requestOverride(String jsonPath, String json) {
+      throw overridesNotSupported();
+    }
+
+    @Override
+    public HttpMockVariant requestOverride(String jsonPath, Object object) {
+      throw overridesNotSupported();
+    }
+
+    @Override
+    public HttpMockVariant responseOverride(String jsonPath, String json) {
+      throw overridesNotSupported();
+    }
+
+    @Override
+    public HttpMockVariant responseOverride(String jsonPath, Object object) {
+      throw overridesNotSupported();
+    }
+
+    private UnsupportedOperationException overridesNotSupported() {
+      return new UnsupportedOperationException(
+          "Prototype variants of " + stubber.getClass().getSimpleName() + " support path parameters only"
+      );
+    }
+  }
+}
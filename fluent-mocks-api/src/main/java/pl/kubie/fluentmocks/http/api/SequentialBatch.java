@@ -0,0 +1,133 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.api;
+
+import lombok.RequiredArgsConstructor;
+import pl.kubie.fluentmocks.http.api.request.MockHttpRequestSpec;
+import pl.kubie.fluentmocks.http.api.response.MockHttpResponseSpec;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Default {@link HttpStubber#batch(Consumer)}, stubbing each mock right away and collecting the created mocks.
+ */
+@RequiredArgsConstructor
+class SequentialBatch implements HttpStubber {
+
+  private final HttpStubber stubber;
+  private final Queue<HttpMock> mocks = new ConcurrentLinkedQueue<>();
+
+  List<HttpMock> mocks() {
+    return List.copyOf(mocks);
+  }
+
+  @Override
+  public HttpMockSpec stub() {
+    return new RecordingSpec(stubber.stub());
+  }
+
+  @Override
+  public HttpMockPrototype prototype(Consumer<HttpMockSpec> onPrototype) {
+    var prototype = stubber.prototype(onPrototype);
+    return onVariant -> new RecordingTimes(prototype.instantiate(onVariant));
+  }
+
+  @Override
+  public void verifyAll(Consumer<HttpVerifications> onVerifications) {
+    stubber.verifyAll(onVerifications);
+  }
+
+  @Override
+  public String host() {
+    return stubber.host();
+  }
+
+  @Override
+  public int port() {
+    return stubber.port();
+  }
+
+  @Override
+  public void clearMocks() {
+    stubber.clearMocks();
+  }
+
+  @RequiredArgsConstructor
+  private class RecordingSpec implements HttpMockSpec {
+
+    private final HttpMockSpec spec;
+
+    @Override
+    public HttpMockTimes times() {
+      return new RecordingTimes(spec.times());
+    }
+
+    @Override
+    public MockHttpRequestSpec request() {
+      return spec.request();
+    }
+
+    @Override
+    public MockHttpResponseSpec response() {
+      return spec.response();
+    }
+  }
+
+  @RequiredArgsConstructor
+  private class RecordingTimes implements HttpMockTimes {
+
+    private final HttpMockTimes times;
+
+    @Override
+    public HttpMock unlimited() {
+      return record(times.unlimited());
+    }
+
+    @Override
+    public HttpMock exactly(int times) {
+      return record(this.times.exactly(times));
+    }
+
+    @Override
+    public HttpMock once() {
+      return record(times.once());
+    }
+
+    @Override
+    public CompletableFuture<HttpMock> unlimitedAsync() {
+      return times.unlimitedAsync().thenApply(this::record);
+    }
+
+    @Override
+    public CompletableFuture<HttpMock> exactlyAsync(int times) {
+      return this.times.exactlyAsync(times).thenApply(this::record);
+    }
+
+    @Override
+    public CompletableFuture<HttpMock> onceAsync() {
+      return times.onceAsync().thenApply(this::record);
+    }
+
+    private HttpMock record(HttpMock mock) {
+      mocks.add(mock);
+      return mock;
+    }
+  }
+}
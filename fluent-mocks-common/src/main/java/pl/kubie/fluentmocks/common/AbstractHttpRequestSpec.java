@@ -0,0 +1,145 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import pl.kubie.fluentmocks.http.api.request.MockHttpRequestSpec;
+import pl.kubie.fluentmocks.http.api.request.RequestBody;
+import pl.kubie.fluentmocks.http.api.request.UrlSpec;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static pl.kubie.fluentmocks.common.CompiledRequest.ANY_METHOD;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+public abstract class AbstractHttpRequestSpec<T> implements MockHttpRequestSpec {
+
+  private final Map<String, List<String>> headers = new LinkedHashMap<>();
+  private final Map<String, String> cookies = new LinkedHashMap<>();
+  private final RequestUrl url = new RequestUrl();
+  private final AbstractRequestBody body;
+  private String method = ANY_METHOD;
+
+  private CompiledRequest compiled;
+  private T translated;
+
+  protected AbstractHttpRequestSpec(AbstractRequestBody body) {
+    this.body = body;
+  }
+
+  @Override
+  public MockHttpRequestSpec url(Consumer<UrlSpec> onUrl) {
+    onUrl.accept(url);
+    return changed();
+  }
+
+  @Override
+  public MockHttpRequestSpec method(String method) {
+    this.method = method;
+    return changed();
+  }
+
+  @Override
+  public MockHttpRequestSpec header(String key, String value) {
+    headers.computeIfAbsent(key, it -> new ArrayList<>()).add(value);
+    return changed();
+  }
+
+  @Override
+  public MockHttpRequestSpec cookie(String key, String value) {
+    cookies.put(key, value);
+    return changed();
+  }
+
+  @Override
+  public MockHttpRequestSpec body(Consumer<RequestBody> bodyCustomization) {
+    bodyCustomization.accept(body);
+    return changed();
+  }
+
+  public synchronized CompiledRequest compile() {
+    if (compiled == null) {
+      var request = prototype();
+      request.url().validate(request.pathParams().keySet());
+      compiled = request;
+    }
+    return compiled;
+  }
+
+  synchronized CompiledRequest prototype() {
+    return new CompiledRequest(
+        method,
+        UrlTemplate.of(url.getValue()),
+        Map.copyOf(url.getPathParams()),
+        copy(url.getQueryParams()),
+        copy(headers),
+        Map.copyOf(cookies),
+        body.compile()
+    );
+  }
+
+  synchronized void instantiate(
+      CompiledRequest prototype,
+      Map<String, String> pathParams,
+      List<Consumer<AbstractRequestBody>> bodyOverrides
+  ) {
+    var params = new LinkedHashMap<>(prototype.pathParams());
+    params.putAll(pathParams);
+    prototype.url().validate(params.keySet());
+    var compiledBody = prototype.body();
+    if (!bodyOverrides.isEmpty()) {
+      body.restore(compiledBody);
+      bodyOverrides.forEach(override -> override.accept(body));
+      compiledBody = body.compile();
+    }
+    var variantHeaders = new LinkedHashMap<>(prototype.headers());
+    variantHeaders.putAll(copy(headers));
+    compiled = new CompiledRequest(
+        prototype.method(),
+        prototype.url(),
+        Map.copyOf(params),
+        prototype.queryParams(),
+        Map.copyOf(variantHeaders),
+        prototype.cookies(),
+        compiledBody
+    );
+    translated = null;
+  }
+
+  protected synchronized T translated() {
+    if (translated == null) {
+      translated = translate(compile());
+    }
+    return translated;
+  }
+
+  protected abstract T translate(CompiledRequest request);
+
+  private synchronized MockHttpRequestSpec changed() {
+    compiled = null;
+    translated = null;
+    return this;
+  }
+
+  private static Map<String, List<String>> copy(Map<String, List<String>> source) {
+    return source.entrySet()
+        .stream()
+        .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+  }
+}
@@ -21,6 +21,9 @@ import pl.kubie.fluentmocks.http.api.http.body.JsonBody;
 import pl.kubie.fluentmocks.http.api.http.body.RawBody;
 import pl.kubie.fluentmocks.http.api.request.RequestBody;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static pl.kubie.fluentmocks.common.JsonPayload.overrideJson;
 import static pl.kubie.fluentmocks.common.PayloadFormat.EMPTY;
@@ -39,25 +42,26 @@ public class AbstractRequestBody
   private final FileLoader fileLoader;
   private final JsonSerializer serializer;
 
-  protected byte[] bytes;
+  private final List<JsonOverride> overrides = new ArrayList<>();
+  private byte[] bytes;
   protected PayloadFormat format = EMPTY;
 
   @Override
   public FileBody<RequestBody> file(String path) {
-    bytes = fileLoader.load(path);
+    replace(fileLoader.load(path));
     return this;
   }
 
   @Override
   public RawBody<RequestBody> raw(String payload) {
-    this.bytes = payload.getBytes(UTF_8);
+    replace(payload.getBytes(UTF_8));
     this.format = RAW;
     return this;
   }
 
   @Override
   public RawBody<RequestBody> raw(byte[] payload) {
-    this.bytes = payload;
+    replace(payload);
     this.format = RAW_BYTES;
     return this;
   }
@@ -65,7 +69,7 @@ public class AbstractRequestBody
 
   @Override
   public JsonBody<RequestBody> json(Object payload) {
-    return json(serializer.toJson(payload));
+    return json(serializer.toJsonBytes(payload));
   }
 
   @Override
@@ -74,14 +78,14 @@ public class AbstractRequestBody
   }
 
   public JsonBody<RequestBody> json(byte[] payload) {
-    bytes = payload;
+    replace(payload);
     format = JSON;
     return this;
   }
 
   @Override
   public JsonBody<RequestBody> override(String jsonPath, String json) {
-    bytes = overrideJson(bytes, UTF_8, jsonPath, json);
+    overrides.add(new JsonOverride(jsonPath, json));
     return this;
   }
 
@@ -95,11 +99,33 @@ public class AbstractRequestBody
 
   @Override
   public JsonBody<RequestBody> json() {
-    return json(bytes);
+    return json(bytes());
   }
 
   @Override
   public RawBody<RequestBody> raw() {
-    return raw(bytes);
+    return raw(bytes());
+  }
+
+  public CompiledBody compile() {
+    return CompiledBody.of(format, bytes());
+  }
+
+  public void restore(CompiledBody body) {
+    replace(body.bytes());
+    format = body.format();
+  }
+
+  protected byte[] bytes() {
+    if (!overrides.isEmpty()) {
+      bytes = overrideJson(bytes, UTF_8, List.copyOf(overrides));
+      overrides.clear();
+    }
+    return bytes;
+  }
+
+  private void replace(byte[] payload) {
+    bytes = payload;
+    overrides.clear();
   }
 }
@@ -21,6 +21,9 @@ import pl.kubie.fluentmocks.http.api.http.body.JsonBody;
 import pl.kubie.fluentmocks.http.api.http.body.RawBody;
 import pl.kubie.fluentmocks.http.api.response.ResponseBody;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static pl.kubie.fluentmocks.common.JsonPayload.overrideJson;
 import static pl.kubie.fluentmocks.common.PayloadFormat.JSON;
@@ -37,38 +40,39 @@ public class AbstractResponseBody
   private final FileLoader fileLoader;
   private final JsonSerializer serializer;
 
-  protected byte[] bytes;
+  private final List<JsonOverride> overrides = new ArrayList<>();
+  private byte[] bytes;
   protected PayloadFormat format = PayloadFormat.EMPTY;
 
   @Override
   public FileBody<ResponseBody> file(String path) {
-    bytes = fileLoader.load(path);
+    replace(fileLoader.load(path));
     return this;
   }
 
   @Override
   public RawBody<ResponseBody> raw(byte[] payload) {
-    this.bytes = payload;
+    replace(payload);
     this.format = RAW_BYTES;
     return this;
   }
 
   public JsonBody<ResponseBody> json(byte[] payload) {
-    bytes = payload;
+    replace(payload);
     format = JSON;
     return this;
   }
 
   @Override
   public RawBody<ResponseBody> raw(String payload) {
-    bytes = payload.getBytes(UTF_8);
+    replace(payload.getBytes(UTF_8));
     format = RAW;
     return this;
   }
 
   @Override
   public JsonBody<ResponseBody> json(Object payload) {
-    return json(serializer.toJson(payload));
+    return json(serializer.toJsonBytes(payload));
   }
 
   @Override
@@ -81,7 +85,7 @@ public class AbstractResponseBody
       String jsonPath,
       String json
   ) {
-    bytes = overrideJson(bytes, UTF_8, jsonPath, json);
+    overrides.add(new JsonOverride(jsonPath, json));
     return this;
   }
 
@@ -98,11 +102,33 @@ public class AbstractResponseBody
 
   @Override
   public JsonBody<ResponseBody> json() {
-    return json(bytes);
+    return json(bytes());
   }
 
   @Override
   public RawBody<ResponseBody> raw() {
-    return raw(bytes);
+    return raw(bytes());
+  }
+
+  public CompiledBody compile() {
+    return CompiledBody.of(format, bytes());
+  }
+
+  public void restore(CompiledBody body) {
+    replace(body.bytes());
+    format = body.format();
+  }
+
+  protected byte[] bytes() {
+    if (!overrides.isEmpty()) {
+      bytes = overrideJson(bytes, UTF_8, List.copyOf(overrides));
+      overrides.clear();
+    }
+    return bytes;
+  }
+
+  private void replace(byte[] payload) {
+    bytes = payload;
+    overrides.clear();
   }
 }
@@ -0,0 +1,55 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+
+@UtilityClass
+public class Awaiting {
+
+  private static final long INITIAL_BACKOFF = Duration.ofMillis(10).toNanos();
+  private static final long MAX_BACKOFF = Duration.ofMillis(500).toNanos();
+
+  /*
+  assertion is retried as soon as the signal reports a new request,
+  servers which cannot push requests never signal, so it degrades to exponential backoff polling.
+  */
+  public static void until(ThrowingRunnable assertion, Duration timeout, RequestSignal signal) {
+    var deadline = System.nanoTime() + timeout.toNanos();
+    var backoff = INITIAL_BACKOFF;
+    while (true) {
+      var seen = signal.version();
+      try {
+        assertion.run();
+        return;
+      } catch (AssertionError e) {
+        var remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          throw e;
+        }
+        try {
+          signal.awaitAfter(seen, Math.min(backoff, remaining));
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+        backoff = Math.min(backoff * 2, MAX_BACKOFF);
+      }
+    }
+  }
+}
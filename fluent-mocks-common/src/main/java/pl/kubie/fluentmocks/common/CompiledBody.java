@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record CompiledBody(PayloadFormat format, byte[] bytes, String digest) {
+
+  public static final CompiledBody EMPTY = new CompiledBody(PayloadFormat.EMPTY, new byte[0], "");
+
+  public static CompiledBody of(PayloadFormat format, byte[] bytes) {
+    if (format == PayloadFormat.EMPTY) {
+      return EMPTY;
+    }
+    return new CompiledBody(format, bytes, ContentHash.of(bytes));
+  }
+
+  public String text() {
+    return new String(bytes, UTF_8);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof CompiledBody body
+        && format == body.format
+        && digest.equals(body.digest);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(format, digest);
+  }
+
+  @Override
+  public String toString() {
+    return switch (format) {
+      case EMPTY -> "";
+      case RAW_BYTES -> bytes.length + " bytes";
+      case RAW, JSON -> text();
+    };
+  }
+}
@@ -0,0 +1,46 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import java.util.List;
+import java.util.Map;
+
+public record CompiledRequest(
+    String method,
+    UrlTemplate url,
+    Map<String, String> pathParams,
+    Map<String, List<String>> queryParams,
+    Map<String, List<String>> headers,
+    Map<String, String> cookies,
+    CompiledBody body
+) {
+
+  public static final String ANY_METHOD = "ANY";
+
+  public boolean anyMethod() {
+    return ANY_METHOD.equals(method);
+  }
+
+  @Override
+  public String toString() {
+    return method + " " + url
+        + (pathParams.isEmpty() ? "" : " " + pathParams)
+        + (queryParams.isEmpty() ? "" : " " + queryParams)
+        + (headers.isEmpty() ? "" : " headers=" + headers)
+        + (cookies.isEmpty() ? "" : " cookies=" + cookies)
+        + (body.format() == PayloadFormat.EMPTY ? "" : " body=" + body);
+  }
+}
@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+public class ConcurrencyLimit {
+
+  private final Semaphore permits;
+
+  public ConcurrencyLimit(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Max concurrency must be positive but was " + maxConcurrency);
+    }
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  public <T> T call(Supplier<T> call) {
+    permits.acquireUninterruptibly();
+    try {
+      return call.get();
+    } finally {
+      permits.release();
+    }
+  }
+
+  public void run(Runnable runnable) {
+    call(() -> {
+      runnable.run();
+      return null;
+    });
+  }
+}
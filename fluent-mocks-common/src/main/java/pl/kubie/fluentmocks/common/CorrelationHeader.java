@@ -0,0 +1,46 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import pl.kubie.fluentmocks.http.api.MockScope;
+import pl.kubie.fluentmocks.http.api.request.MockHttpRequestSpec;
+
+import java.util.Optional;
+
+public record CorrelationHeader(String name) {
+
+  private static final CorrelationHeader DISABLED = new CorrelationHeader(null);
+
+  public static CorrelationHeader disabled() {
+    return DISABLED;
+  }
+
+  public static CorrelationHeader of(String name) {
+    return name == null ? DISABLED : new CorrelationHeader(name);
+  }
+
+  public Optional<String> tag() {
+    var scope = MockScope.current();
+    if (name == null || MockScope.GLOBAL.equals(scope)) {
+      return Optional.empty();
+    }
+    return Optional.of(scope);
+  }
+
+  public void applyTo(MockHttpRequestSpec request) {
+    tag().ifPresent(tag -> request.header(name, tag));
+  }
+}
@@ -18,14 +18,140 @@ package pl.kubie.fluentmocks.common;
 import org.apache.commons.io.IOUtils;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 
-public class FileLoader {
+/**
+ * Loads classpath files, caching their bytes up to {@code maxBytes}. Loaded arrays are shared with the cache
+ * and must not be modified. Prefetching runs on the given executor, or on an executor created on first use
+ * and shut down by {@link #close()}.
+ */
+public class FileLoader implements AutoCloseable {
+
+  public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+  private static final FileLoader SHARED = new FileLoader();
+
+  private final Map<String, byte[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxBytes;
+  private final Executor executor;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private long cachedBytes;
+  private ExecutorService ownedExecutor;
+  private boolean closed;
+
+  public FileLoader() {
+    this(DEFAULT_MAX_BYTES);
+  }
+
+  public FileLoader(long maxBytes) {
+    this(maxBytes, null);
+  }
+
+  public FileLoader(long maxBytes, Executor executor) {
+    this.maxBytes = maxBytes;
+    this.executor = executor;
+  }
+
+  public static FileLoader shared() {
+    return SHARED;
+  }
 
   public byte[] load(String path) {
+    var cached = cached(path);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    misses.increment();
+    var bytes = read(path);
+    cache(path, bytes);
+    return bytes;
+  }
+
+  public CompletableFuture<Void> prefetch(Collection<String> paths) {
+    var prefetchExecutor = prefetchExecutor();
+    return CompletableFuture.allOf(
+        paths.stream()
+            .map(path -> CompletableFuture.runAsync(() -> prefetch(path), prefetchExecutor))
+            .toArray(CompletableFuture[]::new)
+    );
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (ownedExecutor != null) {
+      ownedExecutor.close();
+    }
+  }
+
+  private synchronized Executor prefetchExecutor() {
+    if (closed) {
+      throw new IllegalStateException("File loader is closed");
+    }
+    if (executor != null) {
+      return executor;
+    }
+    if (ownedExecutor == null) {
+      ownedExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+    return ownedExecutor;
+  }
+
+  public Stats stats() {
+    synchronized (cache) {
+      return new Stats(hits.sum(), misses.sum(), evictions.sum(), cache.size(), cachedBytes);
+    }
+  }
+
+  private void prefetch(String path) {
+    if (cached(path) == null) {
+      cache(path, read(path));
+    }
+  }
+
+  private byte[] cached(String path) {
+    synchronized (cache) {
+      return cache.get(path);
+    }
+  }
+
+  private void cache(String path, byte[] bytes) {
+    if (bytes.length > maxBytes) {
+      return;
+    }
+    synchronized (cache) {
+      var previous = cache.put(path, bytes);
+      if (previous != null) {
+        cachedBytes -= previous.length;
+      }
+      cachedBytes += bytes.length;
+      var eldest = cache.entrySet().iterator();
+      while (cachedBytes > maxBytes) {
+        cachedBytes -= eldest.next().getValue().length;
+        eldest.remove();
+        evictions.increment();
+      }
+    }
+  }
+
+  private static byte[] read(String path) {
     try {
       return IOUtils.resourceToByteArray(path);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
+
+  public record Stats(long hits, long misses, long evictions, int entries, long bytes) {
+  }
 }
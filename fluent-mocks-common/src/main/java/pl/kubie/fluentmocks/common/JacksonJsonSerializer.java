@@ -15,21 +15,50 @@
  */
 package pl.kubie.fluentmocks.common;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
-@RequiredArgsConstructor
 public class JacksonJsonSerializer implements JsonSerializer {
 
   private final ObjectMapper objectMapper;
 
+  public JacksonJsonSerializer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
   @Override
   public String toJson(Object object) {
     try {
-      return objectMapper.writeValueAsString(object);
-    } catch (JsonProcessingException e) {
+      return writer().writeValueAsString(object);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public byte[] toJsonBytes(Object object) {
+    try {
+      return writer().writeValueAsBytes(object);
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
+
+  @Override
+  public void writeTo(OutputStream output, Object object) {
+    try {
+      writer().writeValue(output, object);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  // a writer per call follows later mapper configuration; serializers are still cached by the mapper
+  private ObjectWriter writer() {
+    return objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
 }
@@ -0,0 +1,134 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpVerification;
+import pl.kubie.fluentmocks.http.api.HttpVerifications;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+public class JournalVerifications<M extends HttpMock, R> implements HttpVerifications {
+
+  private final Class<M> mockType;
+  private final Function<M, Predicate<R>> matcher;
+  private final Function<M, Object> description;
+  private final List<Expectation> expectations = new ArrayList<>();
+
+  public JournalVerifications(Class<M> mockType, Function<M, Predicate<R>> matcher, Function<M, Object> description) {
+    this.mockType = mockType;
+    this.matcher = matcher;
+    this.description = description;
+  }
+
+  @Override
+  public HttpVerification that(HttpMock mock) {
+    if (!mockType.isInstance(mock)) {
+      throw new IllegalArgumentException("Cannot verify " + mock + " together with mocks of " + mockType.getSimpleName());
+    }
+    var expectation = new Expectation(mockType.cast(mock));
+    expectations.add(expectation);
+    return expectation;
+  }
+
+  public boolean isEmpty() {
+    return expectations.isEmpty();
+  }
+
+  public void verify(Collection<R> journal) {
+    var matchers = expectations.stream()
+        .map(expectation -> matcher.apply(expectation.mock))
+        .toList();
+    var counts = new int[matchers.size()];
+    for (var request : journal) {
+      for (int i = 0; i < counts.length; i++) {
+        if (matchers.get(i).test(request)) {
+          counts[i]++;
+        }
+      }
+    }
+    var failures = new ArrayList<String>();
+    for (int i = 0; i < counts.length; i++) {
+      var expectation = expectations.get(i);
+      for (var check : expectation.checks) {
+        if (!check.expected().test(counts[i])) {
+          failures.add("Expected " + check.description() + " request(s) matching " + description.apply(expectation.mock)
+              + " but received " + counts[i]);
+        }
+      }
+    }
+    if (!failures.isEmpty()) {
+      var checks = expectations.stream()
+          .mapToInt(expectation -> expectation.checks.size())
+          .sum();
+      throw new AssertionError(failures.size() + " of " + checks + " verifications failed:\n"
+          + String.join("\n", failures));
+    }
+  }
+
+  private record Check(IntPredicate expected, String description) {
+  }
+
+  private class Expectation implements HttpVerification {
+
+    private final M mock;
+    private final List<Check> checks = new ArrayList<>();
+
+    private Expectation(M mock) {
+      this.mock = mock;
+    }
+
+    @Override
+    public HttpVerification never() {
+      return exactly(0);
+    }
+
+    @Override
+    public HttpVerification once() {
+      return exactly(1);
+    }
+
+    @Override
+    public HttpVerification exactly(int times) {
+      return check(count -> count == times, "exactly " + times);
+    }
+
+    @Override
+    public HttpVerification atLeast(int times) {
+      return check(count -> count >= times, "at least " + times);
+    }
+
+    @Override
+    public HttpVerification atMost(int times) {
+      return check(count -> count <= times, "at most " + times);
+    }
+
+    @Override
+    public HttpVerification between(int atLeast, int atMost) {
+      return atLeast(atLeast).atMost(atMost);
+    }
+
+    private HttpVerification check(IntPredicate expected, String description) {
+      checks.add(new Check(expected, description));
+      return this;
+    }
+  }
+}
@@ -20,18 +20,51 @@ import lombok.experimental.UtilityClass;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @UtilityClass
 public class JsonPayload {
+
+  private static final Map<String, JsonPath> COMPILED_PATHS = new ConcurrentHashMap<>();
+
   public static byte[] overrideJson(
       byte[] byteArray,
       Charset encoding,
       String jsonPath,
       String json
   ) {
-    return JsonPath.parse(new ByteArrayInputStream(byteArray))
-        .map(JsonPath.compile(jsonPath), ((currentValue, configuration) -> configuration.jsonProvider().parse(json)))
-        .jsonString()
-        .getBytes(encoding);
+    return overrideJson(byteArray, encoding, List.of(new JsonOverride(jsonPath, json)));
+  }
+
+  public static byte[] overrideJson(
+      byte[] byteArray,
+      Charset encoding,
+      List<JsonOverride> overrides
+  ) {
+    if (overrides.isEmpty()) {
+      return byteArray;
+    }
+    if (encoding.equals(UTF_8)) {
+      var patched = StreamingJsonPatcher.patch(byteArray, overrides);
+      if (patched.isPresent()) {
+        return patched.get();
+      }
+    }
+    var document = JsonPath.parse(new ByteArrayInputStream(byteArray));
+    for (var override : overrides) {
+      document = document.map(
+          compile(override.jsonPath()),
+          (currentValue, configuration) -> configuration.jsonProvider().parse(override.json())
+      );
+    }
+    return document.jsonString().getBytes(encoding);
+  }
+
+  static JsonPath compile(String jsonPath) {
+    return COMPILED_PATHS.computeIfAbsent(jsonPath, JsonPath::compile);
   }
 }
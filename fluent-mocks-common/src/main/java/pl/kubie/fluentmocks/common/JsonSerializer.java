@@ -15,6 +15,24 @@
  */
 package pl.kubie.fluentmocks.common;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public interface JsonSerializer {
   String toJson(Object object);
+
+  default byte[] toJsonBytes(Object object) {
+    return toJson(object).getBytes(UTF_8);
+  }
+
+  default void writeTo(OutputStream output, Object object) {
+    try {
+      output.write(toJsonBytes(object));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
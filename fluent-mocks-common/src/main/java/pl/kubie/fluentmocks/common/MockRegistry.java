@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import pl.kubie.fluentmocks.http.api.MockScope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class MockRegistry<T> {
+
+  private final Map<String, Queue<T>> scopes = new ConcurrentHashMap<>();
+
+  public void register(T mock) {
+    scopes.computeIfAbsent(MockScope.current(), scope -> new ConcurrentLinkedQueue<>()).add(mock);
+  }
+
+  public List<T> drainCurrent() {
+    var mocks = scopes.remove(MockScope.current());
+    return mocks == null ? List.of() : List.copyOf(mocks);
+  }
+
+  public List<T> drainCurrentAndGlobal() {
+    var mocks = new ArrayList<>(drainCurrent());
+    var global = scopes.remove(MockScope.GLOBAL);
+    if (global != null) {
+      mocks.addAll(global);
+    }
+    return mocks;
+  }
+
+  public boolean hasOtherScopes() {
+    return scopes.keySet().stream().anyMatch(scope -> !MockScope.GLOBAL.equals(scope) && !MockScope.current().equals(scope));
+  }
+
+  // mocks of the global scope are not tied to any test, so they do not hold back shared cleanup
+  public boolean hasTestMocks() {
+    return scopes.keySet().stream().anyMatch(scope -> !MockScope.GLOBAL.equals(scope));
+  }
+}
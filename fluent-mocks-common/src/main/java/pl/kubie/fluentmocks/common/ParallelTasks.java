@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@UtilityClass
+public class ParallelTasks {
+
+  public static <T> void forEach(Collection<T> items, Consumer<T> action, Executor executor) {
+    map(items, item -> {
+      action.accept(item);
+      return item;
+    }, executor);
+  }
+
+  public static <T, R> List<R> map(Collection<T> items, Function<T, R> mapper, Executor executor) {
+    var futures = items.stream()
+        .map(item -> CompletableFuture.supplyAsync(() -> mapper.apply(item), executor))
+        .toList();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return futures.stream()
+        .map(CompletableFuture::join)
+        .toList();
+  }
+}
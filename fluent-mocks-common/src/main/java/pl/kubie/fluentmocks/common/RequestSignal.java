@@ -0,0 +1,65 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class RequestSignal {
+
+  private static final RequestSignal POLLING = new RequestSignal();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition received = lock.newCondition();
+  private long version;
+
+  // for servers unable to push served requests, awaiting falls back to backoff polling
+  public static RequestSignal polling() {
+    return POLLING;
+  }
+
+  public void signal() {
+    lock.lock();
+    try {
+      version++;
+      received.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  long version() {
+    lock.lock();
+    try {
+      return version;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void awaitAfter(long seen, long timeoutNanos) throws InterruptedException {
+    lock.lock();
+    try {
+      var remaining = timeoutNanos;
+      while (version == seen && remaining > 0) {
+        remaining = received.awaitNanos(remaining);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+}
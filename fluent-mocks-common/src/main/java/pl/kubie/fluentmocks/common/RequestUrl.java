@@ -13,41 +13,44 @@
  *    See the License for the specific language governing permissions and
  *    limitations under the License.
  */
-package pl.kubie.fluentmocks.http.mockserver;
+package pl.kubie.fluentmocks.common;
 
-import lombok.RequiredArgsConstructor;
-import org.mockserver.model.HttpRequest;
+import lombok.Getter;
 import pl.kubie.fluentmocks.http.api.request.UrlSpec;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-@RequiredArgsConstructor
-public class MockserverUrl implements UrlSpec {
+@Getter
+public class RequestUrl implements UrlSpec {
 
-  private final HttpRequest request;
+  private final Map<String, List<String>> queryParams = new LinkedHashMap<>();
+  private final Map<String, String> pathParams = new LinkedHashMap<>();
+  private String value;
 
   @Override
   public UrlSpec url(String url) {
-    request.withPath(url);
+    value = url;
     return this;
   }
 
   @Override
   public UrlSpec queryParameter(String name, String value) {
-    request.withQueryStringParameter(name, value);
+    queryParams.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
     return this;
   }
 
   @Override
   public UrlSpec queryParameter(String name, List<String> value) {
-    request.withQueryStringParameters(Map.of(name, value));
+    queryParams.computeIfAbsent(name, key -> new ArrayList<>()).addAll(value);
     return this;
   }
 
   @Override
   public UrlSpec pathParameter(String name, String value) {
-    request.withPathParameter(name, value);
+    pathParams.put(name, value);
     return this;
   }
 }
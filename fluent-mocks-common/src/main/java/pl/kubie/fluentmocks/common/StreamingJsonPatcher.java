@@ -0,0 +1,200 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@UtilityClass
+class StreamingJsonPatcher {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final Pattern FIELD = Pattern.compile("[A-Za-z0-9_$-]+");
+  private static final Pattern INDEX = Pattern.compile("\\d+");
+
+  static Optional<byte[]> patch(byte[] json, List<JsonOverride> overrides) {
+    var root = new Node();
+    for (var override : overrides) {
+      var segments = segments(override.jsonPath());
+      var value = validJson(override.json());
+      if (segments.isEmpty() || value.isEmpty() || !root.put(segments.get(), value.get())) {
+        return Optional.empty();
+      }
+    }
+    try (
+        var parser = JSON_FACTORY.createParser(json);
+        var output = new ByteArrayOutputStream(json.length);
+    ) {
+      try (var generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+        if (parser.nextToken() == null) {
+          return Optional.empty();
+        }
+        var replaced = copy(parser, generator, root);
+        if (replaced != root.replacements()) {
+          return Optional.empty();
+        }
+      }
+      return Optional.of(output.toByteArray());
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static int copy(JsonParser parser, JsonGenerator generator, Node node) throws IOException {
+    if (node == null) {
+      copyExact(parser, generator);
+      return 0;
+    }
+    if (node.replacement != null) {
+      parser.skipChildren();
+      generator.writeRawValue(node.replacement);
+      return 1;
+    }
+    var replaced = 0;
+    if (parser.currentToken() == JsonToken.START_OBJECT) {
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var name = parser.currentName();
+        generator.writeFieldName(name);
+        parser.nextToken();
+        replaced += copy(parser, generator, node.fields.get(name));
+      }
+      generator.writeEndObject();
+    } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+      generator.writeStartArray();
+      var index = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        replaced += copy(parser, generator, node.fields.get(index(index++)));
+      }
+      generator.writeEndArray();
+    } else {
+      generator.copyCurrentEventExact(parser);
+    }
+    return replaced;
+  }
+
+  // copyCurrentStructure re-encodes floats through double, so untouched values are copied event by event
+  private static void copyExact(JsonParser parser, JsonGenerator generator) throws IOException {
+    var depth = 0;
+    do {
+      var token = parser.currentToken();
+      generator.copyCurrentEventExact(parser);
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+    } while (depth > 0 && parser.nextToken() != null);
+  }
+
+  private static Optional<List<String>> segments(String jsonPath) {
+    var path = jsonPath.startsWith("$") ? jsonPath.substring(1) : "." + jsonPath;
+    var segments = new ArrayList<String>();
+    var position = 0;
+    while (position < path.length()) {
+      if (path.startsWith("..", position)) {
+        return Optional.empty();
+      }
+      if (path.charAt(position) == '.') {
+        var end = position + 1;
+        while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+          end++;
+        }
+        var field = path.substring(position + 1, end);
+        if (!FIELD.matcher(field).matches()) {
+          return Optional.empty();
+        }
+        segments.add(field);
+        position = end;
+      } else if (path.charAt(position) == '[') {
+        var end = path.indexOf(']', position);
+        if (end < 0) {
+          return Optional.empty();
+        }
+        var selector = path.substring(position + 1, end);
+        if (INDEX.matcher(selector).matches()) {
+          segments.add(index(Integer.parseInt(selector)));
+        } else if (selector.length() > 1 && selector.startsWith("'") && selector.endsWith("'")
+            && FIELD.matcher(selector.substring(1, selector.length() - 1)).matches()) {
+          segments.add(selector.substring(1, selector.length() - 1));
+        } else {
+          return Optional.empty();
+        }
+        position = end + 1;
+      } else {
+        return Optional.empty();
+      }
+    }
+    return segments.isEmpty() ? Optional.empty() : Optional.of(segments);
+  }
+
+  private static String index(int index) {
+    return "[" + index + "]";
+  }
+
+  private static Optional<String> validJson(String json) {
+    try (var parser = JSON_FACTORY.createParser(json)) {
+      if (parser.nextToken() == null) {
+        return Optional.empty();
+      }
+      parser.skipChildren();
+      return parser.nextToken() == null ? Optional.of(json.strip()) : Optional.empty();
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static class Node {
+    private final Map<String, Node> fields = new HashMap<>();
+    private String replacement;
+
+    private boolean put(List<String> segments, String value) {
+      var node = this;
+      for (var segment : segments) {
+        if (node.replacement != null) {
+          return false;
+        }
+        node = node.fields.computeIfAbsent(segment, key -> new Node());
+      }
+      if (!node.fields.isEmpty()) {
+        return false;
+      }
+      node.replacement = value;
+      return true;
+    }
+
+    private int replacements() {
+      var count = replacement == null ? 0 : 1;
+      for (var field : fields.values()) {
+        count += field.replacements();
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpMockPrototype;
+import pl.kubie.fluentmocks.http.api.HttpMockSpec;
+import pl.kubie.fluentmocks.http.api.HttpMockTimes;
+import pl.kubie.fluentmocks.http.api.HttpMockVariant;
+import pl.kubie.fluentmocks.http.api.request.MockHttpRequestSpec;
+import pl.kubie.fluentmocks.http.api.response.MockHttpResponseSpec;
+import pl.kubie.fluentmocks.http.api.response.ResponseBody;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class StubPrototype implements HttpMockPrototype {
+
+  private final Supplier<HttpMockSpec> stubs;
+  private final CompiledRequest request;
+  private final List<Consumer<MockHttpResponseSpec>> response;
+  private final CompiledBody responseBody;
+
+  public StubPrototype(Supplier<HttpMockSpec> stubs, Consumer<HttpMockSpec> onPrototype) {
+    var template = stubs.get();
+    var recorder = new RecordingResponseSpec(template.response());
+    onPrototype.accept(new PrototypeSpec(template.request(), recorder));
+    this.stubs = stubs;
+    this.request = ((AbstractHttpRequestSpec<?>) template.request()).prototype();
+    this.response = List.copyOf(recorder.settings);
+    this.responseBody = recorder.body == null ? null : recorder.body.compile();
+  }
+
+  @Override
+  public HttpMockTimes instantiate(Consumer<HttpMockVariant> onVariant) {
+    var variant = new StubVariant();
+    onVariant.accept(variant);
+    var stub = stubs.get();
+    ((AbstractHttpRequestSpec<?>) stub.request()).instantiate(request, variant.getPathParams(), variant.getRequestOverrides());
+    var responseSpec = stub.response();
+    response.forEach(setting -> setting.accept(responseSpec));
+    if (responseBody != null || !variant.getResponseOverrides().isEmpty()) {
+      responseSpec.body(body -> {
+        var responseBody = (AbstractResponseBody) body;
+        responseBody.restore(this.responseBody == null ? CompiledBody.EMPTY : this.responseBody);
+        variant.getResponseOverrides().forEach(override -> override.accept(responseBody));
+      });
+    }
+    return stub.times();
+  }
+
+  private record PrototypeSpec(MockHttpRequestSpec request, MockHttpResponseSpec response) implements HttpMockSpec {
+
+    @Override
+    public HttpMockTimes respond(Consumer<MockHttpResponseSpec> onResponse) {
+      onResponse.accept(response);
+      return new PrototypeTimes();
+    }
+
+    @Override
+    public HttpMockTimes respond() {
+      return new PrototypeTimes();
+    }
+
+    @Override
+    public HttpMockTimes times() {
+      throw notRegistered();
+    }
+  }
+
+  private static class RecordingResponseSpec implements MockHttpResponseSpec {
+
+    private final List<Consumer<MockHttpResponseSpec>> settings = new ArrayList<>();
+    private final MockHttpResponseSpec template;
+    private AbstractResponseBody body;
+
+    private RecordingResponseSpec(MockHttpResponseSpec template) {
+      this.template = template;
+    }
+
+    @Override
+    public MockHttpResponseSpec statusCode(int statusCode) {
+      settings.add(spec -> spec.statusCode(statusCode));
+      return this;
+    }
+
+    @Override
+    public MockHttpResponseSpec body(Consumer<ResponseBody> onBody) {
+      template.body(body -> {
+        onBody.accept(body);
+        this.body = (AbstractResponseBody) body;
+      });
+      return this;
+    }
+
+    @Override
+    public MockHttpResponseSpec header(String name, String value) {
+      settings.add(spec -> spec.header(name, value));
+      return this;
+    }
+
+    @Override
+    public MockHttpResponseSpec cookie(String name, String value) {
+      settings.add(spec -> spec.cookie(name, value));
+      return this;
+    }
+
+    @Override
+    public MockHttpResponseSpec delayed(Duration delay) {
+      settings.add(spec -> spec.delayed(delay));
+      return this;
+    }
+  }
+
+  // respond(...) has to return times, but registering them is still rejected
+  private static class PrototypeTimes implements HttpMockTimes {
+
+    @Override
+    public HttpMock unlimited() {
+      throw notRegistered();
+    }
+
+    @Override
+    public HttpMock exactly(int times) {
+      throw notRegistered();
+    }
+
+    @Override
+    public HttpMock once() {
+      throw notRegistered();
+    }
+
+    @Override
+    public CompletableFuture<HttpMock> unlimitedAsync() {
+      throw notRegistered();
+    }
+
+    @Override
+    public CompletableFuture<HttpMock> exactlyAsync(int times) {
+      throw notRegistered();
+    }
+
+    @Override
+    public CompletableFuture<HttpMock> onceAsync() {
+      throw notRegistered();
+    }
+  }
+
+  private static IllegalStateException notRegistered() {
+    return new IllegalStateException("Prototype is not registered, use instantiate(...) to register its variants");
+  }
+}
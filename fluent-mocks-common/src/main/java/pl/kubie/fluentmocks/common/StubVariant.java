@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import lombok.Getter;
+import pl.kubie.fluentmocks.http.api.HttpMockVariant;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Getter
+class StubVariant implements HttpMockVariant {
+
+  private final Map<String, String> pathParams = new LinkedHashMap<>();
+  private final List<Consumer<AbstractRequestBody>> requestOverrides = new ArrayList<>();
+  private final List<Consumer<AbstractResponseBody>> responseOverrides = new ArrayList<>();
+
+  @Override
+  public HttpMockVariant pathParameter(String name, String value) {
+    pathParams.put(name, value);
+    return this;
+  }
+
+  @Override
+  public HttpMockVariant requestOverride(String jsonPath, String json) {
+    requestOverrides.add(body -> body.override(jsonPath, json));
+    return this;
+  }
+
+  @Override
+  public HttpMockVariant requestOverride(String jsonPath, Object object) {
+    requestOverrides.add(body -> body.override(jsonPath, object));
+    return this;
+  }
+
+  @Override
+  public HttpMockVariant responseOverride(String jsonPath, String json) {
+    responseOverrides.add(body -> body.override(jsonPath, json));
+    return this;
+  }
+
+  @Override
+  public HttpMockVariant responseOverride(String jsonPath, Object object) {
+    responseOverrides.add(body -> body.override(jsonPath, object));
+    return this;
+  }
+}
@@ -0,0 +1,46 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import pl.kubie.fluentmocks.http.api.MockScope;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor of a stubber. When none is configured the stubber creates its own one and shuts it down on close.
+ */
+public record StubberExecutor(Executor executor, Runnable onClose) {
+
+  public static StubberExecutor of(Executor configured) {
+    if (configured != null) {
+      return new StubberExecutor(MockScope.propagating(configured), () -> {
+      });
+    }
+    var owned = Executors.newVirtualThreadPerTaskExecutor();
+    return new StubberExecutor(MockScope.propagating(owned), owned::close);
+  }
+
+  public Runnable closing(Runnable onClose) {
+    return () -> {
+      try {
+        onClose.run();
+      } finally {
+        this.onClose.run();
+      }
+    };
+  }
+}
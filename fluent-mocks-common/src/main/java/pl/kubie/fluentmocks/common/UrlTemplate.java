@@ -0,0 +1,148 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class UrlTemplate {
+
+  private static final int MAX_CACHED_TEMPLATES = 1024;
+  private static final Map<String, UrlTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+  private final String value;
+  private final List<Segment> segments;
+  private final Set<String> variableNames;
+
+  private UrlTemplate(String value, List<Segment> segments) {
+    this.value = value;
+    this.segments = segments;
+    this.variableNames = Set.copyOf(variables(segments));
+  }
+
+  public static UrlTemplate of(String template) {
+    var cached = TEMPLATES.get(template);
+    if (cached != null) {
+      return cached;
+    }
+    var parsed = parse(template);
+    // literal URLs are cheap to parse, so only templates with variables are kept, up to a fixed number
+    if (parsed.variableNames.isEmpty() || TEMPLATES.size() >= MAX_CACHED_TEMPLATES) {
+      return parsed;
+    }
+    var previous = TEMPLATES.putIfAbsent(template, parsed);
+    return previous != null ? previous : parsed;
+  }
+
+  public String value() {
+    return value;
+  }
+
+  public Set<String> variableNames() {
+    return variableNames;
+  }
+
+  public Set<String> missingVariables(Collection<String> names) {
+    var missing = variables(segments);
+    missing.removeAll(names);
+    return missing;
+  }
+
+  public void validate(Collection<String> names) {
+    var missing = missingVariables(names);
+    if (!missing.isEmpty()) {
+      throw new IllegalArgumentException("Missing value for path parameter(s) " + missing + " in URL template '" + value + "'");
+    }
+  }
+
+  public String expand(Map<String, String> variables) {
+    if (variableNames.isEmpty()) {
+      return value;
+    }
+    validate(variables.keySet());
+    var result = new StringBuilder(value.length());
+    for (var segment : segments) {
+      result.append(segment.variable() ? variables.get(segment.text()) : segment.text());
+    }
+    return result.toString();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof UrlTemplate template && value.equals(template.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+
+  private static Set<String> variables(List<Segment> segments) {
+    return segments.stream()
+        .filter(Segment::variable)
+        .map(Segment::text)
+        .collect(LinkedHashSet::new, Set::add, Set::addAll);
+  }
+
+  private static UrlTemplate parse(String template) {
+    var segments = new ArrayList<Segment>();
+    var literalStart = 0;
+    var position = 0;
+    while (position < template.length()) {
+      var end = template.charAt(position) == '{' ? variableNameEnd(template, position + 1) : -1;
+      if (end < 0) {
+        position++;
+        continue;
+      }
+      if (literalStart < position) {
+        segments.add(new Segment(template.substring(literalStart, position), false));
+      }
+      segments.add(new Segment(template.substring(position + 1, end), true));
+      position = end + 1;
+      literalStart = position;
+    }
+    if (literalStart < template.length()) {
+      segments.add(new Segment(template.substring(literalStart), false));
+    }
+    return new UrlTemplate(template, List.copyOf(segments));
+  }
+
+  private static int variableNameEnd(String template, int start) {
+    for (var position = start; position < template.length(); position++) {
+      var character = template.charAt(position);
+      if (character == '}') {
+        return position > start ? position : -1;
+      }
+      if (character == '/') {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private record Segment(String text, boolean variable) {
+  }
+}
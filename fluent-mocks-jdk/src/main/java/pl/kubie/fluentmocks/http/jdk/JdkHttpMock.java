@@ -0,0 +1,117 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import lombok.Getter;
+import pl.kubie.fluentmocks.common.Awaiting;
+import pl.kubie.fluentmocks.common.ThrowingRunnable;
+import pl.kubie.fluentmocks.http.api.AsyncHttpVerification;
+import pl.kubie.fluentmocks.http.api.ExecutorAsyncHttpVerification;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpVerification;
+
+import java.time.Duration;
+import java.util.function.IntPredicate;
+
+public class JdkHttpMock implements HttpMock, HttpVerification {
+
+  private final JdkStubServer server;
+  @Getter
+  private final JdkStub stub;
+  private Duration awaitTimeout = null;
+
+  public JdkHttpMock(JdkStubServer server, JdkStub stub) {
+    this.server = server;
+    this.stub = stub;
+  }
+
+  @Override
+  public HttpMock await() {
+    return await(Duration.ofSeconds(3));
+  }
+
+  @Override
+  public HttpMock await(Duration timeout) {
+    this.awaitTimeout = timeout;
+    return this;
+  }
+
+  @Override
+  public HttpVerification never() {
+    return exactly(0);
+  }
+
+  @Override
+  public HttpVerification once() {
+    return exactly(1);
+  }
+
+  @Override
+  public HttpVerification exactly(int times) {
+    return verify(count -> count == times, "exactly " + times);
+  }
+
+  @Override
+  public HttpVerification atLeast(int times) {
+    return verify(count -> count >= times, "at least " + times);
+  }
+
+  @Override
+  public HttpVerification atMost(int times) {
+    return verify(count -> count <= times, "at most " + times);
+  }
+
+  @Override
+  public HttpVerification between(int atLeast, int atMost) {
+    return verify(count -> count >= atLeast && count <= atMost, "between " + atLeast + " and " + atMost);
+  }
+
+  @Override
+  public HttpVerification verify() {
+    return this;
+  }
+
+  @Override
+  public AsyncHttpVerification verifyAsync() {
+    return new ExecutorAsyncHttpVerification(this, server.executor());
+  }
+
+  private HttpVerification verify(IntPredicate expectedCount, String expectation) {
+    ThrowingRunnable verification = () -> assertCount(expectedCount, expectation);
+    if (awaitTimeout != null) {
+      Awaiting.until(verification, awaitTimeout, server.journal().signal());
+    } else {
+      verification.run();
+    }
+    return this;
+  }
+
+  private void assertCount(IntPredicate expectedCount, String expectation) {
+    var matcher = stub.getMatcher();
+    var count = server.journal().count(matcher);
+    if (!expectedCount.test(count)) {
+      var message = new StringBuilder()
+          .append("Expected ").append(expectation).append(" request(s) matching ").append(matcher)
+          .append(" but received ").append(count);
+      var nearMisses = server.journal().requestsTo(matcher.path());
+      if (!nearMisses.isEmpty()) {
+        message.append("\nRequests to ").append(matcher.path()).append(":");
+        nearMisses.forEach(request -> message.append("\n  ").append(request));
+      }
+      throw new AssertionError(message.toString());
+    }
+  }
+}
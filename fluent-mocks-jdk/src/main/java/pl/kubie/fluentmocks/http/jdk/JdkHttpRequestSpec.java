@@ -0,0 +1,64 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import pl.kubie.fluentmocks.common.AbstractHttpRequestSpec;
+import pl.kubie.fluentmocks.common.CompiledRequest;
+import pl.kubie.fluentmocks.common.PayloadFormat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+
+public class JdkHttpRequestSpec extends AbstractHttpRequestSpec<JdkRequestMatcher> {
+
+  private final JdkRequestBody body;
+
+  public JdkHttpRequestSpec(JdkRequestBody body) {
+    super(body);
+    this.body = body;
+  }
+
+  public JdkRequestMatcher matcher() {
+    return translated();
+  }
+
+  @Override
+  protected JdkRequestMatcher translate(CompiledRequest request) {
+    var path = request.url().expand(request.pathParams());
+    Map<String, List<String>> headers = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.headers());
+    return new JdkRequestMatcher(
+        request.method(),
+        path,
+        request.queryParams(),
+        headers,
+        request.cookies(),
+        body.toMatcher(request.body()),
+        describe(request, path)
+    );
+  }
+
+  private static String describe(CompiledRequest request, String path) {
+    return request.method() + " " + path
+        + (request.queryParams().isEmpty() ? "" : " " + request.queryParams())
+        + (request.headers().isEmpty() ? "" : " headers=" + request.headers())
+        + (request.cookies().isEmpty() ? "" : " cookies=" + request.cookies())
+        + (request.body().format() == PayloadFormat.EMPTY ? "" : " body=" + request.body());
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import pl.kubie.fluentmocks.http.api.response.MockHttpResponseSpec;
+import pl.kubie.fluentmocks.http.api.response.ResponseBody;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class JdkHttpResponseSpec implements MockHttpResponseSpec {
+
+  private final Map<String, List<String>> headers = new LinkedHashMap<>();
+  private final JdkResponseBody body;
+  private int statusCode = 200;
+  private Duration delay = Duration.ZERO;
+
+  public JdkHttpResponseSpec(JdkResponseBody body) {
+    this.body = body;
+  }
+
+  @Override
+  public MockHttpResponseSpec statusCode(int statusCode) {
+    this.statusCode = statusCode;
+    return this;
+  }
+
+  @Override
+  public MockHttpResponseSpec body(Consumer<ResponseBody> bodyCustomizer) {
+    bodyCustomizer.accept(body);
+    return this;
+  }
+
+  @Override
+  public MockHttpResponseSpec header(String name, String value) {
+    headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+    return this;
+  }
+
+  @Override
+  public MockHttpResponseSpec cookie(String name, String value) {
+    return header("Set-Cookie", "%s=%s".formatted(name, value));
+  }
+
+  @Override
+  public MockHttpResponseSpec delayed(Duration delay) {
+    this.delay = delay;
+    return this;
+  }
+
+  public JdkResponse build() {
+    var headers = new LinkedHashMap<String, List<String>>();
+    this.headers.forEach((name, values) -> headers.put(name, List.copyOf(values)));
+    return new JdkResponse(statusCode, headers, body.toBytes(), delay);
+  }
+}
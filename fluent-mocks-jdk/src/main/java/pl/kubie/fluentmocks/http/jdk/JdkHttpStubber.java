@@ -0,0 +1,152 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import pl.kubie.fluentmocks.common.CorrelationHeader;
+import pl.kubie.fluentmocks.common.FileLoader;
+import pl.kubie.fluentmocks.common.JournalVerifications;
+import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.MockRegistry;
+import pl.kubie.fluentmocks.common.StubPrototype;
+import pl.kubie.fluentmocks.http.api.CloseableHttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpMockPrototype;
+import pl.kubie.fluentmocks.http.api.HttpMockSpec;
+import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpVerifications;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+public class JdkHttpStubber implements CloseableHttpStubber {
+
+  private final JdkStubServer server;
+  private final FileLoader fileLoader;
+  private final JsonSerializer serializer;
+  private final ObjectMapper objectMapper;
+  private final MockRegistry<JdkHttpMock> mocks;
+  private final Consumer<JdkHttpMock> onMockCreated;
+  private final Consumer<HttpMockSpec> onEach;
+  private final CorrelationHeader correlation;
+
+  public JdkHttpStubber(
+      JdkStubServer server,
+      FileLoader fileLoader,
+      JsonSerializer serializer,
+      ObjectMapper objectMapper,
+      Consumer<HttpMockSpec> onEach,
+      CorrelationHeader correlation
+  ) {
+    this(server, fileLoader, serializer, objectMapper, new MockRegistry<>(), null, onEach, correlation);
+  }
+
+  private JdkHttpStubber(
+      JdkStubServer server,
+      FileLoader fileLoader,
+      JsonSerializer serializer,
+      ObjectMapper objectMapper,
+      MockRegistry<JdkHttpMock> mocks,
+      Consumer<JdkHttpMock> onMockCreated,
+      Consumer<HttpMockSpec> onEach,
+      CorrelationHeader correlation
+  ) {
+    this.server = server;
+    this.fileLoader = fileLoader;
+    this.serializer = serializer;
+    this.objectMapper = objectMapper;
+    this.mocks = mocks;
+    this.onMockCreated = onMockCreated != null ? onMockCreated : mocks::register;
+    this.onEach = onEach;
+    this.correlation = correlation;
+  }
+
+  @Override
+  public HttpMockSpec stub() {
+    var request = new JdkHttpRequestSpec(new JdkRequestBody(fileLoader, serializer, objectMapper));
+    correlation.applyTo(request);
+    var mock = new JdkHttpMockSpec(
+        request,
+        new JdkHttpResponseSpec(new JdkResponseBody(fileLoader, serializer)),
+        server,
+        onMockCreated
+    );
+    onEach.accept(mock);
+    return mock;
+  }
+
+  @Override
+  public HttpMockPrototype prototype(Consumer<HttpMockSpec> onPrototype) {
+    return new StubPrototype(this::stub, onPrototype);
+  }
+
+  @Override
+  public List<HttpMock> batch(Consumer<HttpStubber> onBatch) {
+    // stubs are registered in memory, there is nothing to buffer
+    var batched = new ConcurrentLinkedQueue<HttpMock>();
+    Consumer<JdkHttpMock> onBatchMock = mock -> {
+      mocks.register(mock);
+      batched.add(mock);
+    };
+    onBatch.accept(new JdkHttpStubber(server, fileLoader, serializer, objectMapper, mocks, onBatchMock, onEach, correlation));
+    return List.copyOf(batched);
+  }
+
+  @Override
+  public void verifyAll(Consumer<HttpVerifications> onVerifications) {
+    var verifications = new JournalVerifications<JdkHttpMock, JdkRecordedRequest>(
+        JdkHttpMock.class,
+        mock -> mock.getStub().getMatcher()::matches,
+        mock -> mock.getStub().getMatcher()
+    );
+    onVerifications.accept(verifications);
+    if (!verifications.isEmpty()) {
+      verifications.verify(server.journal().snapshot());
+    }
+  }
+
+  @Override
+  public String host() {
+    return server.host();
+  }
+
+  @Override
+  public int port() {
+    return server.port();
+  }
+
+  @Override
+  public void clearMocks() {
+    server.remove(mocks.drainCurrent().stream().map(JdkHttpMock::getStub).toList());
+    var tag = correlation.tag();
+    if (tag.isPresent()) {
+      server.resetJournal(correlation.name(), tag.get());
+    } else if (!mocks.hasTestMocks()) {
+      server.resetJournal();
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,111 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import pl.kubie.fluentmocks.common.CorrelationHeader;
+import pl.kubie.fluentmocks.common.FileLoader;
+import pl.kubie.fluentmocks.common.JacksonJsonSerializer;
+import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.StubberExecutor;
+import pl.kubie.fluentmocks.http.api.HttpMockSpec;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+public class JdkHttpStubberConfig {
+
+  private ObjectMapper objectMapper = new ObjectMapper();
+  private String host = "localhost";
+  private int port = 0;
+  private int backlog = 0;
+  private int maxJournalEntries = 10_000;
+  private Executor executor;
+  private FileLoader fileLoader = FileLoader.shared();
+  private JsonSerializer serializer;
+  private String correlationHeader;
+  private Consumer<HttpMockSpec> onEach = mock -> {
+  };
+
+  public static JdkHttpStubberConfig configure() {
+    return new JdkHttpStubberConfig();
+  }
+
+  public JdkHttpStubberConfig objectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    return this;
+  }
+
+  public JdkHttpStubberConfig host(String host) {
+    this.host = host;
+    return this;
+  }
+
+  public JdkHttpStubberConfig port(int port) {
+    this.port = port;
+    return this;
+  }
+
+  public JdkHttpStubberConfig backlog(int backlog) {
+    this.backlog = backlog;
+    return this;
+  }
+
+  public JdkHttpStubberConfig maxJournalEntries(int maxJournalEntries) {
+    this.maxJournalEntries = maxJournalEntries;
+    return this;
+  }
+
+  public JdkHttpStubberConfig executor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public JdkHttpStubberConfig onEach(Consumer<HttpMockSpec> onEach) {
+    this.onEach = onEach;
+    return this;
+  }
+
+  public JdkHttpStubberConfig serializer(JsonSerializer serializer) {
+    this.serializer = serializer;
+    return this;
+  }
+
+  public JdkHttpStubberConfig correlationHeader(String correlationHeader) {
+    this.correlationHeader = correlationHeader;
+    return this;
+  }
+
+  public JdkHttpStubberConfig fileLoader(FileLoader fileLoader) {
+    this.fileLoader = fileLoader;
+    return this;
+  }
+
+  public JdkHttpStubber build() {
+    return new JdkHttpStubber(
+        JdkStubServer.start(host, port, backlog, maxJournalEntries, StubberExecutor.of(executor)),
+        fileLoader,
+        jsonSerializer(),
+        objectMapper,
+        onEach,
+        CorrelationHeader.of(correlationHeader)
+    );
+  }
+
+  private JsonSerializer jsonSerializer() {
+    return serializer != null ? serializer : new JacksonJsonSerializer(objectMapper);
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import lombok.Value;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpMockTimes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static pl.kubie.fluentmocks.http.jdk.JdkStub.UNLIMITED;
+
+@Value
+public class JdkHttpTimes implements HttpMockTimes {
+  JdkHttpRequestSpec request;
+  JdkHttpResponseSpec response;
+  JdkStubServer server;
+  Consumer<JdkHttpMock> onMockCreated;
+
+  @Override
+  public HttpMock unlimited() {
+    return register(UNLIMITED);
+  }
+
+  @Override
+  public HttpMock exactly(int times) {
+    return register(times);
+  }
+
+  @Override
+  public HttpMock once() {
+    return exactly(1);
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> unlimitedAsync() {
+    return CompletableFuture.supplyAsync(this::unlimited, server.executor());
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> exactlyAsync(int times) {
+    return CompletableFuture.supplyAsync(() -> exactly(times), server.executor());
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> onceAsync() {
+    return exactlyAsync(1);
+  }
+
+  private HttpMock register(int times) {
+    var stub = server.register(new JdkStub(request.matcher(), response.build(), times));
+    var mock = new JdkHttpMock(server, stub);
+    onMockCreated.accept(mock);
+    return mock;
+  }
+}
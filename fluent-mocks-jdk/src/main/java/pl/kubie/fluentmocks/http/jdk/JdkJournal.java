@@ -0,0 +1,83 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import pl.kubie.fluentmocks.common.RequestSignal;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+public class JdkJournal {
+
+  private final Queue<JdkRecordedRequest> requests = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final RequestSignal signal = new RequestSignal();
+  private final int maxEntries;
+
+  public JdkJournal(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  public void record(JdkRecordedRequest request) {
+    requests.add(request);
+    // oldest requests are dropped, same as with WireMock maxRequestJournalEntries
+    if (size.incrementAndGet() > maxEntries && requests.poll() != null) {
+      size.decrementAndGet();
+    }
+    signal.signal();
+  }
+
+  public RequestSignal signal() {
+    return signal;
+  }
+
+  public int count(JdkRequestMatcher matcher) {
+    int count = 0;
+    for (var request : requests) {
+      if (matcher.matches(request)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public List<JdkRecordedRequest> snapshot() {
+    return List.copyOf(requests);
+  }
+
+  public List<JdkRecordedRequest> requestsTo(String path) {
+    return requests.stream()
+        .filter(request -> request.path().equals(path))
+        .toList();
+  }
+
+  public void clear() {
+    clear(request -> true);
+  }
+
+  public void clear(Predicate<JdkRecordedRequest> filter) {
+    requests.removeIf(request -> {
+      if (filter.test(request)) {
+        size.decrementAndGet();
+        return true;
+      }
+      return false;
+    });
+  }
+}
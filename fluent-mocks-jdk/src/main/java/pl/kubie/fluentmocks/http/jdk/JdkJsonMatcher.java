@@ -0,0 +1,75 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.function.Predicate;
+
+@RequiredArgsConstructor
+public class JdkJsonMatcher implements Predicate<byte[]> {
+
+  private final ObjectMapper objectMapper;
+  private final JsonNode expected;
+
+  @Override
+  public boolean test(byte[] actual) {
+    if (actual.length == 0) {
+      return false;
+    }
+    try {
+      return matches(expected, objectMapper.readTree(actual));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  // same semantics as WireMock equalToJson with ignored extra elements and strict array order
+  private static boolean matches(JsonNode expected, JsonNode actual) {
+    if (actual == null) {
+      return false;
+    }
+    if (expected.isObject()) {
+      if (!actual.isObject()) {
+        return false;
+      }
+      for (var field : expected.properties()) {
+        if (!matches(field.getValue(), actual.get(field.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (expected.isArray()) {
+      if (!actual.isArray() || actual.size() != expected.size()) {
+        return false;
+      }
+      for (int i = 0; i < expected.size(); i++) {
+        if (!matches(expected.get(i), actual.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (expected.isNumber() && actual.isNumber()) {
+      return expected.decimalValue().compareTo(actual.decimalValue()) == 0;
+    }
+    return expected.equals(actual);
+  }
+}
@@ -0,0 +1,100 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record JdkRecordedRequest(
+    String method,
+    String path,
+    Map<String, List<String>> queryParams,
+    Map<String, List<String>> headers,
+    Map<String, String> cookies,
+    byte[] body
+) {
+
+  public static JdkRecordedRequest from(HttpExchange exchange) {
+    var headers = new TreeMap<String, List<String>>(CASE_INSENSITIVE_ORDER);
+    headers.putAll(exchange.getRequestHeaders());
+    return new JdkRecordedRequest(
+        exchange.getRequestMethod(),
+        exchange.getRequestURI().getPath(),
+        queryParams(exchange.getRequestURI().getRawQuery()),
+        headers,
+        cookies(headers.getOrDefault("Cookie", List.of())),
+        body(exchange)
+    );
+  }
+
+  @Override
+  public String toString() {
+    return method + " " + path + (queryParams.isEmpty() ? "" : " " + queryParams)
+        + (headers.isEmpty() ? "" : " headers=" + headers)
+        + (body.length == 0 ? "" : " body=" + new String(body, UTF_8));
+  }
+
+  private static Map<String, List<String>> queryParams(String rawQuery) {
+    var result = new HashMap<String, List<String>>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return result;
+    }
+    for (var pair : rawQuery.split("&")) {
+      var separator = pair.indexOf('=');
+      var name = separator < 0 ? pair : pair.substring(0, separator);
+      var value = separator < 0 ? "" : pair.substring(separator + 1);
+      result.computeIfAbsent(decode(name), key -> new ArrayList<>()).add(decode(value));
+    }
+    return result;
+  }
+
+  private static Map<String, String> cookies(List<String> cookieHeaders) {
+    var result = new HashMap<String, String>();
+    cookieHeaders.stream()
+        .flatMap(header -> Arrays.stream(header.split(";")))
+        .map(String::trim)
+        .filter(cookie -> cookie.indexOf('=') > 0)
+        .forEach(cookie -> result.put(
+            cookie.substring(0, cookie.indexOf('=')),
+            cookie.substring(cookie.indexOf('=') + 1)
+        ));
+    return result;
+  }
+
+  private static byte[] body(HttpExchange exchange) {
+    try (var body = exchange.getRequestBody()) {
+      return body.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String decode(String value) {
+    return URLDecoder.decode(value, UTF_8);
+  }
+}
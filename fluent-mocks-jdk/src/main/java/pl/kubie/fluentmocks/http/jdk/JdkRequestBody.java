@@ -0,0 +1,59 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import pl.kubie.fluentmocks.common.AbstractRequestBody;
+import pl.kubie.fluentmocks.common.CompiledBody;
+import pl.kubie.fluentmocks.common.FileLoader;
+import pl.kubie.fluentmocks.common.JsonSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+public class JdkRequestBody extends AbstractRequestBody {
+
+  private final ObjectMapper objectMapper;
+
+  public JdkRequestBody(
+      FileLoader fileLoader,
+      JsonSerializer serializer,
+      ObjectMapper objectMapper
+  ) {
+    super(fileLoader, serializer);
+    this.objectMapper = objectMapper;
+  }
+
+  public Predicate<byte[]> toMatcher(CompiledBody body) {
+    var expected = body.bytes();
+    return switch (body.format()) {
+      case EMPTY -> actual -> true;
+      case RAW, RAW_BYTES -> actual -> Arrays.equals(expected, actual);
+      case JSON -> new JdkJsonMatcher(objectMapper, readTree(expected));
+    };
+  }
+
+  private JsonNode readTree(byte[] json) {
+    try {
+      return objectMapper.readTree(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static pl.kubie.fluentmocks.common.CompiledRequest.ANY_METHOD;
+
+public record JdkRequestMatcher(
+    String method,
+    String path,
+    Map<String, List<String>> queryParams,
+    Map<String, List<String>> headers,
+    Map<String, String> cookies,
+    Predicate<byte[]> body,
+    String description
+) {
+
+  public boolean matches(JdkRecordedRequest request) {
+    return path.equals(request.path())
+        && (ANY_METHOD.equals(method) || method.equalsIgnoreCase(request.method()))
+        && allMatch(queryParams, request.queryParams())
+        && allMatch(headers, request.headers())
+        && cookies.entrySet().stream().allMatch(cookie -> Objects.equals(cookie.getValue(), request.cookies().get(cookie.getKey())))
+        && body.test(request.body());
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+  private static boolean allMatch(Map<String, List<String>> expected, Map<String, List<String>> actual) {
+    for (var entry : expected.entrySet()) {
+      var values = actual.get(entry.getKey());
+      if (values == null || values.size() != entry.getValue().size() || !values.containsAll(entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static pl.kubie.fluentmocks.common.CompiledRequest.ANY_METHOD;
+
+public class JdkRoutes {
+
+  private final Map<Route, NavigableMap<Long, JdkStub>> stubsByRoute = new ConcurrentHashMap<>();
+  private final Map<JdkStub, Long> sequences = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  public void add(JdkStub stub) {
+    // latest stub wins, same as in WireMock
+    var stubSequence = sequence.incrementAndGet();
+    sequences.put(stub, stubSequence);
+    stubsByRoute.compute(Route.of(stub.getMatcher()), (route, routeStubs) -> {
+      var stubs = routeStubs != null ? routeStubs : new ConcurrentSkipListMap<Long, JdkStub>().descendingMap();
+      stubs.put(stubSequence, stub);
+      return stubs;
+    });
+  }
+
+  public Optional<JdkStub> find(JdkRecordedRequest request) {
+    // stubs of the request method and stubs of any method are tried together, newest first
+    var methodStubs = iterator(new Route(request.method().toUpperCase(Locale.ROOT), request.path()));
+    var anyMethodStubs = iterator(new Route(ANY_METHOD, request.path()));
+    var methodStub = next(methodStubs);
+    var anyMethodStub = next(anyMethodStubs);
+    while (methodStub != null || anyMethodStub != null) {
+      Map.Entry<Long, JdkStub> candidate;
+      if (anyMethodStub == null || methodStub != null && methodStub.getKey() > anyMethodStub.getKey()) {
+        candidate = methodStub;
+        methodStub = next(methodStubs);
+      } else {
+        candidate = anyMethodStub;
+        anyMethodStub = next(anyMethodStubs);
+      }
+      var stub = candidate.getValue();
+      if (stub.getMatcher().matches(request)) {
+        // an exhausted stub still shadows older ones, so exactly(n) stops serving like in WireMock
+        return stub.tryServe() ? Optional.of(stub) : Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
+  public void removeAll(Collection<JdkStub> stubs) {
+    stubs.forEach(stub -> {
+      var stubSequence = sequences.remove(stub);
+      if (stubSequence == null) {
+        return;
+      }
+      stubsByRoute.computeIfPresent(
+          Route.of(stub.getMatcher()),
+          (route, routeStubs) -> {
+            routeStubs.remove(stubSequence);
+            return routeStubs.isEmpty() ? null : routeStubs;
+          }
+      );
+    });
+  }
+
+  private Iterator<Map.Entry<Long, JdkStub>> iterator(Route route) {
+    var stubs = stubsByRoute.get(route);
+    return stubs == null ? null : stubs.entrySet().iterator();
+  }
+
+  private static Map.Entry<Long, JdkStub> next(Iterator<Map.Entry<Long, JdkStub>> stubs) {
+    return stubs != null && stubs.hasNext() ? stubs.next() : null;
+  }
+
+  private record Route(String method, String path) {
+
+    static Route of(JdkRequestMatcher matcher) {
+      var method = ANY_METHOD.equals(matcher.method()) ? ANY_METHOD : matcher.method().toUpperCase(Locale.ROOT);
+      return new Route(method, matcher.path());
+    }
+  }
+}
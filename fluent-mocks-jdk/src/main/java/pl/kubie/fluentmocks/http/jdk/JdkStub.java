@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+@RequiredArgsConstructor
+public class JdkStub {
+
+  public static final int UNLIMITED = -1;
+
+  private final JdkRequestMatcher matcher;
+  private final JdkResponse response;
+  private final int times;
+  private final AtomicInteger served = new AtomicInteger();
+
+  public boolean tryServe() {
+    if (times == UNLIMITED) {
+      return true;
+    }
+    int current;
+    do {
+      current = served.get();
+      if (current >= times) {
+        return false;
+      }
+    } while (!served.compareAndSet(current, current + 1));
+    return true;
+  }
+}
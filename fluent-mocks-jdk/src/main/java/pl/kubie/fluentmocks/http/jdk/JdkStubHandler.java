@@ -0,0 +1,71 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RequiredArgsConstructor
+public class JdkStubHandler implements HttpHandler {
+
+  private static final int NOT_FOUND = 404;
+  private static final int NO_BODY = -1;
+
+  private final JdkRoutes routes;
+  private final JdkJournal journal;
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      var request = JdkRecordedRequest.from(exchange);
+      journal.record(request);
+      var stub = routes.find(request);
+      if (stub.isPresent()) {
+        respond(exchange, stub.get().getResponse());
+      } else {
+        exchange.sendResponseHeaders(NOT_FOUND, NO_BODY);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, JdkResponse response) throws IOException {
+    delay(response.delay());
+    exchange.getResponseHeaders().putAll(response.headers());
+    var body = response.body();
+    var noBody = body.length == 0 || "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+    exchange.sendResponseHeaders(response.statusCode(), noBody ? NO_BODY : body.length);
+    if (!noBody) {
+      exchange.getResponseBody().write(body);
+    }
+  }
+
+  private static void delay(Duration delay) {
+    if (delay.isZero()) {
+      return;
+    }
+    try {
+      Thread.sleep(delay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
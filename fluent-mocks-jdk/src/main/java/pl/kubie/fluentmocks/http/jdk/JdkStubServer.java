@@ -0,0 +1,99 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.jdk;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import pl.kubie.fluentmocks.common.StubberExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+public record JdkStubServer(
+    HttpServer server,
+    ExecutorService serverExecutor,
+    JdkRoutes routes,
+    JdkJournal journal,
+    StubberExecutor stubberExecutor
+) {
+
+  public static JdkStubServer start(
+      String host,
+      int port,
+      int backlog,
+      int maxJournalEntries,
+      StubberExecutor stubberExecutor
+  ) {
+    var routes = new JdkRoutes();
+    var journal = new JdkJournal(maxJournalEntries);
+    var serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      var server = HttpServer.create(new InetSocketAddress(host, port), backlog);
+      server.setExecutor(serverExecutor);
+      server.createContext("/", new JdkStubHandler(routes, journal));
+      server.start();
+      log.info("Started JDK stub server on port {}", server.getAddress().getPort());
+      return new JdkStubServer(server, serverExecutor, routes, journal, stubberExecutor);
+    } catch (IOException e) {
+      serverExecutor.close();
+      stubberExecutor.onClose().run();
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public JdkStub register(JdkStub stub) {
+    log.debug("Stubbing endpoint with JDK server {}", stub.getMatcher());
+    routes.add(stub);
+    return stub;
+  }
+
+  public void remove(Collection<JdkStub> stubs) {
+    routes.removeAll(stubs);
+  }
+
+  public void resetJournal() {
+    journal.clear();
+  }
+
+  public void resetJournal(String header, String tag) {
+    journal.clear(request -> request.headers().getOrDefault(header, List.of()).contains(tag));
+  }
+
+  public Executor executor() {
+    return stubberExecutor.executor();
+  }
+
+  public String host() {
+    return server.getAddress().getHostString();
+  }
+
+  public int port() {
+    return server.getAddress().getPort();
+  }
+
+  public void stop() {
+    server.stop(0);
+    serverExecutor.close();
+    stubberExecutor.onClose().run();
+  }
+}
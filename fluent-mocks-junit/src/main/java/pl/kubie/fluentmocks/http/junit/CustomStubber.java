@@ -16,10 +16,12 @@
 package pl.kubie.fluentmocks.http.junit;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.api.MockScope;
 
-public abstract class CustomStubber implements AfterEachCallback {
+public abstract class CustomStubber implements BeforeEachCallback, AfterEachCallback {
 
   protected final HttpStubber httpStubber;
 
@@ -27,8 +29,28 @@ public abstract class CustomStubber implements AfterEachCallback {
     this.httpStubber = httpStubber;
   }
 
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    MockScope.enter(context.getUniqueId());
+  }
+
   @Override
   public void afterEach(ExtensionContext context) {
-    httpStubber.clearMocks();
+    try {
+      if (parallel(context)) {
+        httpStubber.clearMocks();
+      } else {
+        // tests run one by one, so mocks registered outside of them (e.g. in @BeforeAll) are cleared as well
+        httpStubber.clearMocksWithGlobal();
+      }
+    } finally {
+      MockScope.exit();
+    }
+  }
+
+  private static boolean parallel(ExtensionContext context) {
+    return context.getConfigurationParameter(StubberPool.PARALLEL_ENABLED)
+        .map(Boolean::parseBoolean)
+        .orElse(false);
   }
 }
@@ -0,0 +1,355 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.junit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@Slf4j
+public class ForkBroker implements AutoCloseable {
+
+  private static final String OWNER = "owner";
+  private static final String INSTANCES = "instances";
+  private static final String FORKS = "forks";
+  private static final String NEXT_FORK = "next";
+  private static final String READY = "ready";
+
+  private final Path directory;
+  private final int instances;
+  private final Duration startTimeout;
+  private final long pid = ProcessHandle.current().pid();
+  private Lease lease;
+  private Thread releaseHook;
+
+  private ForkBroker(Path directory, int instances, Duration startTimeout) {
+    this.directory = directory;
+    this.instances = instances;
+    this.startTimeout = startTimeout;
+  }
+
+  public static ForkBroker in(Path directory) {
+    return new ForkBroker(directory, 1, Duration.ofMinutes(5));
+  }
+
+  public ForkBroker instances(int instances) {
+    return new ForkBroker(directory, instances, startTimeout);
+  }
+
+  public ForkBroker startTimeout(Duration startTimeout) {
+    return new ForkBroker(directory, instances, startTimeout);
+  }
+
+  /**
+   * Leases one of the brokered instances. They are started by the given class in a separate JVM, so they outlive
+   * the fork that started them and are stopped once every fork that leased them is gone.
+   */
+  public synchronized Lease lease(Class<? extends Supplier<Backend>> starter) {
+    if (lease == null) {
+      createDirectory();
+      var fork = locked(() -> {
+        var state = read();
+        if (!isAlive(owner(state))) {
+          state = new Properties();
+          state.setProperty(OWNER, String.valueOf(startHost(starter)));
+          state.setProperty(INSTANCES, String.valueOf(instances));
+        }
+        var next = Integer.parseInt(state.getProperty(NEXT_FORK, "0"));
+        var forks = forks(state);
+        forks.add(pid);
+        state.setProperty(NEXT_FORK, String.valueOf(next + 1));
+        state.setProperty(FORKS, join(forks));
+        write(state);
+        return next;
+      });
+      releaseHook = new Thread(this::release, "fluent-mocks-broker");
+      Runtime.getRuntime().addShutdownHook(releaseHook);
+      var state = awaitReady();
+      var instance = fork % Integer.parseInt(state.getProperty(INSTANCES));
+      log.info("Fork {} leased brokered instance {}", fork, instance);
+      lease = new Lease(fork, endpoints(state, instance));
+    }
+    return lease;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (releaseHook != null) {
+      Runtime.getRuntime().removeShutdownHook(releaseHook);
+      releaseHook = null;
+      release();
+    }
+  }
+
+  private long startHost(Class<? extends Supplier<Backend>> starter) throws IOException {
+    var process = new ProcessBuilder(
+        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+        "-cp", System.getProperty("java.class.path"),
+        Host.class.getName(),
+        directory.toString(),
+        String.valueOf(instances),
+        starter.getName()
+    )
+        .redirectErrorStream(true)
+        .redirectOutput(hostLogPath().toFile())
+        .start();
+    log.info("Started broker host {} for {} instance(s) in {}", process.pid(), instances, directory);
+    return process.pid();
+  }
+
+  private Properties awaitReady() {
+    var deadline = Instant.now().plus(startTimeout);
+    while (true) {
+      var state = locked(this::read);
+      if (state.containsKey(READY)) {
+        return state;
+      }
+      if (!isAlive(owner(state))) {
+        throw new IllegalStateException("Brokered instances failed to start, see " + hostLogPath());
+      }
+      if (Instant.now().isAfter(deadline)) {
+        throw new IllegalStateException("Brokered instances did not start within " + startTimeout + ", see " + hostLogPath());
+      }
+      sleep();
+    }
+  }
+
+  private void host(Supplier<Backend> starter) {
+    log.info("Starting {} brokered instance(s) in {}", instances, directory);
+    List<Backend> started = List.of();
+    try {
+      started = start(starter);
+      publish(started);
+      while (Files.isDirectory(directory) && !locked(this::retire)) {
+        sleep();
+      }
+    } finally {
+      log.info("Stopping {} brokered instance(s)", started.size());
+      started.forEach(Backend::stop);
+    }
+  }
+
+  // forks register before the host is started, so no live fork means every one of them is gone;
+  // state is dropped under the lock, so forks leasing later start a new host instead of joining this one
+  private boolean retire() throws IOException {
+    if (!forks(read()).isEmpty()) {
+      return false;
+    }
+    Files.deleteIfExists(statePath());
+    return true;
+  }
+
+  private List<Backend> start(Supplier<Backend> starter) {
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var starting = IntStream.range(0, instances)
+          .mapToObj(instance -> CompletableFuture.supplyAsync(starter, executor))
+          .toList();
+      return starting.stream()
+          .map(CompletableFuture::join)
+          .toList();
+    }
+  }
+
+  private void publish(List<Backend> started) {
+    locked(() -> {
+      var state = read();
+      for (int instance = 0; instance < started.size(); instance++) {
+        for (var endpoint : started.get(instance).endpoints().entrySet()) {
+          state.setProperty(
+              "instance." + instance + "." + endpoint.getKey(),
+              endpoint.getValue().host() + ":" + endpoint.getValue().port()
+          );
+        }
+      }
+      state.setProperty(READY, "true");
+      write(state);
+      return null;
+    });
+  }
+
+  private void release() {
+    // the directory may already be gone, e.g. a temporary one, and must not be created again
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    locked(() -> {
+      var state = read();
+      var forks = forks(state);
+      forks.remove(pid);
+      state.setProperty(FORKS, join(forks));
+      write(state);
+      return null;
+    });
+  }
+
+  private List<Long> forks(Properties state) {
+    var forks = state.getProperty(FORKS, "");
+    return Arrays.stream(forks.split(","))
+        .filter(fork -> !fork.isBlank())
+        .map(Long::parseLong)
+        .filter(ForkBroker::isAlive)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private static long owner(Properties state) {
+    return Long.parseLong(state.getProperty(OWNER, "-1"));
+  }
+
+  private static Map<String, Endpoint> endpoints(Properties state, int instance) {
+    var prefix = "instance." + instance + ".";
+    var endpoints = new LinkedHashMap<String, Endpoint>();
+    for (var key : state.stringPropertyNames()) {
+      if (key.startsWith(prefix)) {
+        var address = state.getProperty(key);
+        var separator = address.lastIndexOf(':');
+        endpoints.put(
+            key.substring(prefix.length()),
+            new Endpoint(address.substring(0, separator), Integer.parseInt(address.substring(separator + 1)))
+        );
+      }
+    }
+    return Map.copyOf(endpoints);
+  }
+
+  private static boolean isAlive(long pid) {
+    return ProcessHandle.of(pid)
+        .map(ProcessHandle::isAlive)
+        .orElse(false);
+  }
+
+  private static String join(List<Long> forks) {
+    return forks.stream()
+        .map(String::valueOf)
+        .collect(Collectors.joining(","));
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(100);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for brokered instances", e);
+    }
+  }
+
+  private Properties read() throws IOException {
+    var state = new Properties();
+    if (Files.exists(statePath())) {
+      try (Reader reader = Files.newBufferedReader(statePath())) {
+        state.load(reader);
+      }
+    }
+    return state;
+  }
+
+  private void write(Properties state) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(statePath())) {
+      state.store(writer, "fluent-mocks brokered instances");
+    }
+  }
+
+  private void createDirectory() {
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path statePath() {
+    return directory.resolve("broker.properties");
+  }
+
+  private Path hostLogPath() {
+    return directory.resolve("broker-host.log");
+  }
+
+  private <T> T locked(LockedAction<T> action) {
+    // file locks are held by the whole JVM, so threads of the same fork are serialized separately
+    synchronized (ForkBroker.class) {
+      try (var channel = FileChannel.open(directory.resolve("broker.lock"), CREATE, WRITE);
+           var ignored = channel.lock()) {
+        return action.run();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private interface LockedAction<T> {
+    T run() throws IOException;
+  }
+
+  public interface Backend {
+
+    Map<String, Endpoint> endpoints();
+
+    void stop();
+  }
+
+  public record Endpoint(String host, int port) {
+  }
+
+  public record Lease(int fork, Map<String, Endpoint> endpoints) {
+
+    public Endpoint endpoint(String name) {
+      var endpoint = endpoints.get(name);
+      if (endpoint == null) {
+        throw new IllegalArgumentException("No brokered endpoint " + name + ", available: " + endpoints.keySet());
+      }
+      return endpoint;
+    }
+  }
+
+  static final class Host {
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) {
+      try {
+        var starter = (Class<? extends Supplier<Backend>>) Class.forName(args[2]);
+        var constructor = starter.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        new ForkBroker(Path.of(args[0]), Integer.parseInt(args[1]), Duration.ZERO).host(constructor.newInstance());
+      } catch (Exception e) {
+        log.error("Brokered instances failed", e);
+        System.exit(1);
+      }
+      System.exit(0);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.junit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import pl.kubie.fluentmocks.http.api.CloseableHttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpStubber;
+
+import java.math.BigDecimal;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+@Slf4j
+public class StubberPool implements ParameterResolver, AfterEachCallback, AfterAllCallback {
+
+  static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+  static final String PARALLEL_STRATEGY = "junit.jupiter.execution.parallel.config.strategy";
+  static final String FIXED_PARALLELISM = "junit.jupiter.execution.parallel.config.fixed.parallelism";
+  static final String DYNAMIC_FACTOR = "junit.jupiter.execution.parallel.config.dynamic.factor";
+
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StubberPool.class);
+
+  private final Supplier<? extends HttpStubber> factory;
+  private final Integer fixedSize;
+  private final Queue<HttpStubber> idle = new ConcurrentLinkedQueue<>();
+  private final Queue<HttpStubber> started = new ConcurrentLinkedQueue<>();
+  private final Object leaseKey = new Object();
+  private volatile Semaphore permits;
+
+  public StubberPool(Supplier<? extends HttpStubber> factory) {
+    this(factory, null);
+  }
+
+  public StubberPool(Supplier<? extends HttpStubber> factory, Integer size) {
+    this.factory = factory;
+    this.fixedSize = size;
+  }
+
+  @Override
+  public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+    return HttpStubber.class.isAssignableFrom(parameterContext.getParameter().getType());
+  }
+
+  @Override
+  public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+    var stubber = lease(extensionContext);
+    var type = parameterContext.getParameter().getType();
+    if (!type.isInstance(stubber)) {
+      throw new ParameterResolutionException("Pooled stubber " + stubber + " is not an instance of " + type.getName());
+    }
+    return stubber;
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    release(context);
+  }
+
+  @Override
+  public void afterAll(ExtensionContext context) {
+    release(context);
+  }
+
+  // a lease is kept in the store of the context that resolved it, a class one for constructor and @BeforeAll parameters
+  private void release(ExtensionContext context) {
+    var stubber = context.getStore(NAMESPACE).remove(leaseKey, HttpStubber.class);
+    if (stubber == null) {
+      return;
+    }
+    try {
+      stubber.clearMocks();
+    } finally {
+      idle.add(stubber);
+      permits.release();
+    }
+  }
+
+  private HttpStubber lease(ExtensionContext context) {
+    var store = context.getStore(NAMESPACE);
+    var leased = store.get(leaseKey, HttpStubber.class);
+    if (leased != null) {
+      return leased;
+    }
+    context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(this, pool -> (CloseableResource) this::close);
+    var semaphore = permits(context);
+    semaphore.acquireUninterruptibly();
+    try {
+      var stubber = idle.poll();
+      if (stubber == null) {
+        // started outside any lock, so threads leasing at the same time start their instances concurrently
+        stubber = factory.get();
+        started.add(stubber);
+        log.info("Started pooled stubber {}", stubber);
+      }
+      store.put(leaseKey, stubber);
+      return stubber;
+    } catch (RuntimeException e) {
+      semaphore.release();
+      throw e;
+    }
+  }
+
+  private Semaphore permits(ExtensionContext context) {
+    if (permits == null) {
+      synchronized (this) {
+        if (permits == null) {
+          permits = new Semaphore(fixedSize != null ? fixedSize : size(context));
+        }
+      }
+    }
+    return permits;
+  }
+
+  static int size(ExtensionContext context) {
+    var parallel = context.getConfigurationParameter(PARALLEL_ENABLED)
+        .map(Boolean::parseBoolean)
+        .orElse(false);
+    if (!parallel) {
+      return 1;
+    }
+    var processors = Runtime.getRuntime().availableProcessors();
+    var strategy = context.getConfigurationParameter(PARALLEL_STRATEGY).orElse("dynamic");
+    var size = switch (strategy) {
+      case "fixed" -> context.getConfigurationParameter(FIXED_PARALLELISM)
+          .map(Integer::parseInt)
+          .orElse(processors);
+      case "dynamic" -> context.getConfigurationParameter(DYNAMIC_FACTOR)
+          .map(BigDecimal::new)
+          .orElse(BigDecimal.ONE)
+          .multiply(BigDecimal.valueOf(processors))
+          .intValue();
+      default -> processors;
+    };
+    return Math.max(1, size);
+  }
+
+  private void close() {
+    HttpStubber stubber;
+    while ((stubber = started.poll()) != null) {
+      log.info("Closing pooled stubber {}", stubber);
+      if (stubber instanceof CloseableHttpStubber closeable) {
+        closeable.close();
+      }
+    }
+    idle.clear();
+  }
+}
@@ -0,0 +1,30 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.mockserver;
+
+import lombok.experimental.UtilityClass;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.configuration.Configuration;
+import org.mockserver.integration.ClientAndServer;
+
+@UtilityClass
+class EmbeddedMockserver {
+
+  // kept apart from the config so mockserver-netty is loaded only when embedded mode is used
+  MockServerClient start(Configuration configuration) {
+    return ClientAndServer.startClientAndServer(configuration, 0);
+  }
+}
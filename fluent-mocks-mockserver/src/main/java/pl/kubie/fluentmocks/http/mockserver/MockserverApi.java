@@ -16,11 +16,39 @@
 package pl.kubie.fluentmocks.http.mockserver;
 
 import org.mockserver.client.MockServerClient;
+import org.mockserver.matchers.TimeToLive;
 import org.mockserver.matchers.Times;
+import org.mockserver.mock.Expectation;
+import org.mockserver.model.ClearType;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.verify.VerificationTimes;
+import pl.kubie.fluentmocks.common.ConcurrencyLimit;
 
-public record MockserverApi(MockServerClient mockServerClient) {
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.mockserver.model.HttpRequest.request;
+
+public record MockserverApi(
+    MockServerClient mockServerClient,
+    Executor executor,
+    ConcurrencyLimit limit,
+    MockserverExpectationBatch batch
+) {
+
+  public MockserverApi(MockServerClient mockServerClient, Executor executor, ConcurrencyLimit limit) {
+    this(mockServerClient, executor, limit, null);
+  }
+
+  public MockserverApi batched(int batchSize) {
+    return new MockserverApi(
+        mockServerClient,
+        executor,
+        limit,
+        new MockserverExpectationBatch(mockServerClient, batchSize)
+    );
+  }
 
   public int port() {
     return mockServerClient.remoteAddress().getPort();
@@ -30,16 +58,26 @@ public record MockserverApi(MockServerClient mockServerClient) {
     return mockServerClient.remoteAddress().getHostString();
   }
 
-  public void clear(HttpRequest request) {
-    mockServerClient.clear(request);
+  public void clear(String expectationId) {
+    limit.run(() -> mockServerClient.clear(expectationId, ClearType.EXPECTATIONS));
+  }
+
+  public void clearRequests(HttpRequest request) {
+    limit.run(() -> mockServerClient.clear(request, ClearType.LOG));
+  }
+
+  public void clearRequests(String header, String tag) {
+    limit.run(() -> mockServerClient.clear(request().withHeader(header, tag), ClearType.LOG));
   }
 
   public void reset() {
-    mockServerClient.reset();
+    limit.run(mockServerClient::reset);
   }
 
   public MockserverHttpMock register(MockserverHttpRequestSpec request, MockserverHttpResponseSpec response, Times times) {
-    var expectations = mockServerClient.when(request.build(), times).respond(response.build());
+    var expectations = isBatching()
+        ? new Expectation[]{batch.add(expectation(request, response, times))}
+        : limit.call(() -> mockServerClient.when(request.build(), times).respond(response.build()));
     return new MockserverHttpMock(
         this,
         request,
@@ -47,8 +85,30 @@ public record MockserverApi(MockServerClient mockServerClient) {
     );
   }
 
+  public void flush() {
+    if (isBatching()) {
+      batch.flush();
+    }
+  }
+
+  public List<HttpRequest> recordedRequests() {
+    flush();
+    return List.of(limit.call(() -> mockServerClient.retrieveRecordedRequests(null)));
+  }
+
   public void verify(MockserverHttpRequestSpec requestSpec, VerificationTimes times) {
-    mockServerClient.verify(requestSpec.build(), times);
+    flush();
+    limit.run(() -> mockServerClient.verify(requestSpec.build(), times));
+  }
+
+  private boolean isBatching() {
+    return batch != null;
+  }
+
+  private static Expectation expectation(MockserverHttpRequestSpec request, MockserverHttpResponseSpec response, Times times) {
+    return Expectation.when(request.build(), times, TimeToLive.unlimited())
+        .withId(UUID.randomUUID().toString())
+        .thenRespond(response.build());
   }
 
 }
@@ -0,0 +1,49 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.mockserver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.mock.Expectation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class MockserverExpectationBatch {
+
+  private final MockServerClient mockServerClient;
+  private final int size;
+  private final List<Expectation> expectations = new ArrayList<>();
+
+  public synchronized Expectation add(Expectation expectation) {
+    expectations.add(expectation);
+    if (expectations.size() >= size) {
+      flush();
+    }
+    return expectation;
+  }
+
+  public synchronized void flush() {
+    if (!expectations.isEmpty()) {
+      log.info("Upserting {} Mockserver expectations", expectations.size());
+      mockServerClient.upsert(expectations.toArray(Expectation[]::new));
+      expectations.clear();
+    }
+  }
+}
@@ -17,5 +17,14 @@ package pl.kubie.fluentmocks.http.mockserver;
 
 import org.mockserver.mock.Expectation;
 
+import java.util.Arrays;
+import java.util.List;
+
 public record MockserverExpectations(Expectation[] expectations) {
+
+  public List<String> ids() {
+    return Arrays.stream(expectations)
+        .map(Expectation::getId)
+        .toList();
+  }
 }
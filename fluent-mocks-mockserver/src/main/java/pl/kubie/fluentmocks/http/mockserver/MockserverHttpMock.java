@@ -15,9 +15,12 @@
  */
 package pl.kubie.fluentmocks.http.mockserver;
 
-import org.awaitility.Awaitility;
 import org.mockserver.verify.VerificationTimes;
+import pl.kubie.fluentmocks.common.Awaiting;
+import pl.kubie.fluentmocks.common.RequestSignal;
 import pl.kubie.fluentmocks.common.ThrowingRunnable;
+import pl.kubie.fluentmocks.http.api.AsyncHttpVerification;
+import pl.kubie.fluentmocks.http.api.ExecutorAsyncHttpVerification;
 import pl.kubie.fluentmocks.http.api.HttpMock;
 import pl.kubie.fluentmocks.http.api.HttpVerification;
 
@@ -86,6 +89,11 @@ public class MockserverHttpMock implements HttpMock, HttpVerification {
     return this;
   }
 
+  @Override
+  public AsyncHttpVerification verifyAsync() {
+    return new ExecutorAsyncHttpVerification(this, mockserverApi.executor());
+  }
+
   private HttpVerification verify(VerificationTimes times) {
     execute(() -> mockserverApi.verify(requestSpec, times));
     return this;
@@ -93,9 +101,7 @@ public class MockserverHttpMock implements HttpMock, HttpVerification {
 
   private void execute(ThrowingRunnable assertion) {
     if (shouldAwait()) {
-      Awaitility.await()
-          .atMost(awaitTimeout)
-          .untilAsserted(assertion::run);
+      Awaiting.until(assertion, awaitTimeout, RequestSignal.polling());
     } else {
       assertion.run();
     }
@@ -15,60 +15,55 @@
  */
 package pl.kubie.fluentmocks.http.mockserver;
 
+import org.mockserver.model.BinaryBody;
+import org.mockserver.model.Body;
 import org.mockserver.model.HttpRequest;
-import pl.kubie.fluentmocks.http.api.request.MockHttpRequestSpec;
-import pl.kubie.fluentmocks.http.api.request.RequestBody;
-import pl.kubie.fluentmocks.http.api.request.UrlSpec;
+import org.mockserver.model.JsonBody;
+import org.mockserver.model.StringBody;
+import pl.kubie.fluentmocks.common.AbstractHttpRequestSpec;
+import pl.kubie.fluentmocks.common.CompiledBody;
+import pl.kubie.fluentmocks.common.CompiledRequest;
 
-import java.util.function.Consumer;
-
-import static pl.kubie.fluentmocks.http.mockserver.MockserverPathParamValidator.validatePathParams;
-
-public class MockserverHttpRequestSpec implements MockHttpRequestSpec {
-
-  private final HttpRequest delegate;
-  private final MockserverRequestBody body;
-  private final MockserverUrl url;
+public class MockserverHttpRequestSpec extends AbstractHttpRequestSpec<HttpRequest> {
 
   public MockserverHttpRequestSpec(MockserverRequestBody body) {
-    this.body = body;
-    this.delegate = new HttpRequest();
-    this.url = new MockserverUrl(delegate);
+    super(body);
   }
 
-  @Override
-  public MockHttpRequestSpec url(Consumer<UrlSpec> onUrl) {
-    onUrl.accept(url);
-    return this;
-  }
-
-  @Override
-  public MockHttpRequestSpec method(String method) {
-    delegate.withMethod(method);
-    return this;
-  }
-
-  @Override
-  public MockHttpRequestSpec header(String key, String value) {
-    delegate.withHeader(key, value);
-    return this;
+  public HttpRequest build() {
+    return translated();
   }
 
-  @Override
-  public MockHttpRequestSpec cookie(String key, String value) {
-    delegate.withCookie(key, value);
-    return this;
+  public HttpRequest endpoint() {
+    var request = build();
+    return new HttpRequest()
+        .withMethod(request.getMethod())
+        .withPath(request.getPath())
+        .withPathParameters(request.getPathParameters());
   }
 
   @Override
-  public MockHttpRequestSpec body(Consumer<RequestBody> customizer) {
-    customizer.accept(body);
-    delegate.withBody(body.toMockserverBody());
-    return this;
+  protected HttpRequest translate(CompiledRequest compiled) {
+    var request = new HttpRequest().withPath(compiled.url().value());
+    if (!compiled.anyMethod()) {
+      request.withMethod(compiled.method());
+    }
+    compiled.pathParams().forEach(request::withPathParameter);
+    compiled.queryParams().forEach((name, values) -> request.withQueryStringParameter(name, values.toArray(String[]::new)));
+    compiled.headers().forEach((name, values) -> request.withHeader(name, values.toArray(String[]::new)));
+    compiled.cookies().forEach(request::withCookie);
+    if (compiled.body() != CompiledBody.EMPTY) {
+      request.withBody(toMockserverBody(compiled.body()));
+    }
+    return request;
   }
 
-  public HttpRequest build() {
-    validatePathParams(delegate);
-    return delegate;
+  private static Body<?> toMockserverBody(CompiledBody body) {
+    return switch (body.format()) {
+      case EMPTY -> StringBody.exact("");
+      case RAW -> StringBody.exact(body.text());
+      case RAW_BYTES -> BinaryBody.binary(body.bytes());
+      case JSON -> JsonBody.json(body.text());
+    };
   }
 }
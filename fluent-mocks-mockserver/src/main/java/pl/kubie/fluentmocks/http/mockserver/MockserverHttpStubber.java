@@ -16,34 +16,72 @@
 package pl.kubie.fluentmocks.http.mockserver;
 
 import org.jetbrains.annotations.NotNull;
+import org.mockserver.configuration.Configuration;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.model.HttpRequest;
+import pl.kubie.fluentmocks.common.CorrelationHeader;
 import pl.kubie.fluentmocks.common.FileLoader;
+import pl.kubie.fluentmocks.common.JournalVerifications;
 import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.MockRegistry;
+import pl.kubie.fluentmocks.common.ParallelTasks;
+import pl.kubie.fluentmocks.common.StubPrototype;
+import pl.kubie.fluentmocks.http.api.CloseableHttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpMockPrototype;
 import pl.kubie.fluentmocks.http.api.HttpMockSpec;
 import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpVerifications;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 
-public class MockserverHttpStubber implements HttpStubber {
+public class MockserverHttpStubber implements CloseableHttpStubber {
 
   private final MockserverApi mockserverApi;
   private final JsonSerializer jsonSerializer;
   private final FileLoader fileReader;
-  private final List<MockserverHttpMock> stubs = new ArrayList<>();
+  private final MockRegistry<MockserverHttpMock> stubs;
+  private final Consumer<MockserverHttpMock> onStubCreated;
   private final Consumer<HttpMockSpec> onEach;
-
+  private final int batchSize;
+  private final Runnable onClose;
+  private final CorrelationHeader correlation;
 
   public MockserverHttpStubber(
       MockserverApi mockserverApi,
       JsonSerializer objectMapper,
       FileLoader fileReader,
-      Consumer<HttpMockSpec> onEach
+      Consumer<HttpMockSpec> onEach,
+      int batchSize,
+      Runnable onClose,
+      CorrelationHeader correlation
+  ) {
+    this(mockserverApi, objectMapper, fileReader, new MockRegistry<>(), null, onEach, batchSize, onClose, correlation);
+  }
+
+  private MockserverHttpStubber(
+      MockserverApi mockserverApi,
+      JsonSerializer objectMapper,
+      FileLoader fileReader,
+      MockRegistry<MockserverHttpMock> stubs,
+      Consumer<MockserverHttpMock> onStubCreated,
+      Consumer<HttpMockSpec> onEach,
+      int batchSize,
+      Runnable onClose,
+      CorrelationHeader correlation
   ) {
     this.mockserverApi = mockserverApi;
     this.jsonSerializer = objectMapper;
     this.fileReader = fileReader;
+    this.stubs = stubs;
+    this.onStubCreated = onStubCreated != null ? onStubCreated : stubs::register;
     this.onEach = onEach;
+    this.batchSize = batchSize;
+    this.onClose = onClose;
+    this.correlation = correlation;
   }
 
   @Override
@@ -52,12 +90,49 @@ public class MockserverHttpStubber implements HttpStubber {
         mockserverApi,
         request(),
         response(),
-        stubs::add
+        onStubCreated
     );
     onEach.accept(mock);
     return mock;
   }
 
+  @Override
+  public HttpMockPrototype prototype(Consumer<HttpMockSpec> onPrototype) {
+    return new StubPrototype(this::stub, onPrototype);
+  }
+
+  @Override
+  public List<HttpMock> batch(Consumer<HttpStubber> onBatch) {
+    var batchApi = mockserverApi.batched(batchSize);
+    var batched = new ConcurrentLinkedQueue<HttpMock>();
+    Consumer<MockserverHttpMock> onBatchStub = stub -> {
+      stubs.register(stub);
+      batched.add(stub);
+    };
+    try {
+      onBatch.accept(new MockserverHttpStubber(batchApi, jsonSerializer, fileReader, stubs, onBatchStub, onEach, batchSize, () -> {
+      }, correlation));
+    } finally {
+      // mocks stubbed before a failure are already registered for clearMocks, so they are sent as well
+      batchApi.flush();
+    }
+    return List.copyOf(batched);
+  }
+
+  @Override
+  public void verifyAll(Consumer<HttpVerifications> onVerifications) {
+    var matchers = new MatcherBuilder(Configuration.configuration(), new MockServerLogger(MockserverHttpStubber.class));
+    var verifications = new JournalVerifications<MockserverHttpMock, HttpRequest>(
+        MockserverHttpMock.class,
+        mock -> matchers.transformsToMatcher(mock.requestSpec.build())::matches,
+        mock -> mock.requestSpec.build()
+    );
+    onVerifications.accept(verifications);
+    if (!verifications.isEmpty()) {
+      verifications.verify(mockserverApi.recordedRequests());
+    }
+  }
+
   @Override
   public String host() {
     return mockserverApi.host();
@@ -70,9 +145,29 @@ public class MockserverHttpStubber implements HttpStubber {
 
   @Override
   public void clearMocks() {
-    stubs.forEach(stub -> mockserverApi.clear(stub.requestSpec.build()));
-    mockserverApi.reset();
-    stubs.clear();
+    var drained = stubs.drainCurrent();
+    var expectationIds = drained.stream()
+        .flatMap(stub -> stub.expectations.ids().stream())
+        .toList();
+    // Mockserver clears a single expectation per call, ids spare it from matching each stub request
+    ParallelTasks.forEach(expectationIds, mockserverApi::clear, mockserverApi.executor());
+    // the log is cleared only for requests owned by this session, untagged ones by the endpoints it stubbed,
+    // so other sessions sharing the server keep their expectations and requests
+    var tag = correlation.tag();
+    if (tag.isPresent()) {
+      mockserverApi.clearRequests(correlation.name(), tag.get());
+    } else {
+      var endpoints = drained.stream()
+          .map(stub -> stub.requestSpec.endpoint())
+          .distinct()
+          .toList();
+      ParallelTasks.forEach(endpoints, mockserverApi::clearRequests, mockserverApi.executor());
+    }
+  }
+
+  @Override
+  public void close() {
+    onClose.run();
   }
 
   @Override
@@ -81,7 +176,9 @@ public class MockserverHttpStubber implements HttpStubber {
   }
 
   private @NotNull MockserverHttpRequestSpec request() {
-    return new MockserverHttpRequestSpec(new MockserverRequestBody(fileReader, jsonSerializer));
+    var request = new MockserverHttpRequestSpec(new MockserverRequestBody(fileReader, jsonSerializer));
+    correlation.applyTo(request);
+    return request;
   }
 
   private @NotNull MockserverHttpResponseSpec response() {
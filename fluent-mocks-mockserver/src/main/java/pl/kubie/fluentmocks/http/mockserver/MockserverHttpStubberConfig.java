@@ -18,21 +18,37 @@ package pl.kubie.fluentmocks.http.mockserver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.mockserver.client.MockServerClient;
+import org.mockserver.configuration.Configuration;
+import org.slf4j.event.Level;
+import pl.kubie.fluentmocks.common.ConcurrencyLimit;
+import pl.kubie.fluentmocks.common.CorrelationHeader;
 import pl.kubie.fluentmocks.common.FileLoader;
 import pl.kubie.fluentmocks.common.JacksonJsonSerializer;
+import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.StubberExecutor;
+import pl.kubie.fluentmocks.http.api.CloseableHttpStubber;
 import pl.kubie.fluentmocks.http.api.HttpMockSpec;
-import pl.kubie.fluentmocks.http.api.HttpStubber;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import static org.mockserver.configuration.Configuration.configuration;
+
 @RequiredArgsConstructor
 public class MockserverHttpStubberConfig {
 
   private ObjectMapper objectMapper;
   private String host;
   private int port;
+  private int batchSize = 500;
+  private Executor executor;
+  private int maxConcurrency = 16;
   private Consumer<HttpMockSpec> onEach = mock -> {
   };
+  private Consumer<Configuration> embedded;
+  private FileLoader fileLoader = FileLoader.shared();
+  private JsonSerializer serializer;
+  private String correlationHeader;
 
   public MockserverHttpStubberConfig objectMapper(ObjectMapper objectMapper) {
     this.objectMapper = objectMapper;
@@ -54,16 +70,85 @@ public class MockserverHttpStubberConfig {
     return this;
   }
 
+  public MockserverHttpStubberConfig batchSize(int batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public MockserverHttpStubberConfig executor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public MockserverHttpStubberConfig maxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  public MockserverHttpStubberConfig serializer(JsonSerializer serializer) {
+    this.serializer = serializer;
+    return this;
+  }
+
+  public MockserverHttpStubberConfig correlationHeader(String correlationHeader) {
+    this.correlationHeader = correlationHeader;
+    return this;
+  }
+
+  public MockserverHttpStubberConfig fileLoader(FileLoader fileLoader) {
+    this.fileLoader = fileLoader;
+    return this;
+  }
+
   public static MockserverHttpStubberConfig configure() {
     return new MockserverHttpStubberConfig();
   }
 
-  public HttpStubber build() {
+  public MockserverHttpStubberConfig embedded() {
+    return embedded(configuration -> {
+    });
+  }
+
+  public MockserverHttpStubberConfig embedded(Consumer<Configuration> embedded) {
+    this.embedded = embedded;
+    return this;
+  }
+
+  public CloseableHttpStubber build() {
+    if (embedded != null) {
+      return buildEmbedded();
+    }
+    return build(new MockServerClient(host, port), () -> {
+    });
+  }
+
+  private CloseableHttpStubber buildEmbedded() {
+    var configuration = configuration()
+        .logLevel(Level.WARN)
+        .detailedMatchFailures(false);
+    embedded.accept(configuration);
+    var server = EmbeddedMockserver.start(configuration);
+    return build(server, server::stop);
+  }
+
+  private CloseableHttpStubber build(MockServerClient client, Runnable onClose) {
+    var stubberExecutor = StubberExecutor.of(executor);
     return new MockserverHttpStubber(
-        new MockserverApi(new MockServerClient(host, port)),
-        new JacksonJsonSerializer(objectMapper),
-        new FileLoader(),
-        onEach
+        new MockserverApi(
+            client,
+            stubberExecutor.executor(),
+            new ConcurrencyLimit(maxConcurrency)
+        ),
+        jsonSerializer(),
+        fileLoader,
+        onEach,
+        batchSize,
+        stubberExecutor.closing(onClose),
+        CorrelationHeader.of(correlationHeader)
     );
   }
+
+  private JsonSerializer jsonSerializer() {
+    return serializer != null ? serializer : new JacksonJsonSerializer(objectMapper);
+  }
 }
@@ -20,6 +20,7 @@ import org.mockserver.matchers.Times;
 import pl.kubie.fluentmocks.http.api.HttpMock;
 import pl.kubie.fluentmocks.http.api.HttpMockTimes;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 @Value
@@ -45,6 +46,25 @@ public class MockserverHttpTimes implements HttpMockTimes {
     return stub(Times.once());
   }
 
+  @Override
+  public CompletableFuture<HttpMock> unlimitedAsync() {
+    return stubAsync(Times.unlimited());
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> exactlyAsync(int times) {
+    return stubAsync(Times.exactly(times));
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> onceAsync() {
+    return stubAsync(Times.once());
+  }
+
+  private CompletableFuture<HttpMock> stubAsync(Times times) {
+    return CompletableFuture.supplyAsync(() -> stub(times), mockserverApi.executor());
+  }
+
   private HttpMock stub(Times times) {
     var stub = mockserverApi.register(request, response, times);
     onStubCreated.accept(stub);
@@ -15,16 +15,10 @@
  */
 package pl.kubie.fluentmocks.http.mockserver;
 
-import org.mockserver.model.BinaryBody;
-import org.mockserver.model.Body;
-import org.mockserver.model.JsonBody;
-import org.mockserver.model.StringBody;
 import pl.kubie.fluentmocks.common.AbstractRequestBody;
 import pl.kubie.fluentmocks.common.FileLoader;
 import pl.kubie.fluentmocks.common.JsonSerializer;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 public class MockserverRequestBody extends AbstractRequestBody {
 
   public MockserverRequestBody(
@@ -33,13 +27,4 @@ public class MockserverRequestBody extends AbstractRequestBody {
   ) {
     super(fileLoader, serializer);
   }
-
-  public Body<?> toMockserverBody() {
-    return switch (format) {
-      case EMPTY -> StringBody.exact("");
-      case RAW -> StringBody.exact(new String(bytes, UTF_8));
-      case RAW_BYTES -> BinaryBody.binary(bytes);
-      case JSON -> JsonBody.json(new String(bytes, UTF_8));
-    };
-  }
 }
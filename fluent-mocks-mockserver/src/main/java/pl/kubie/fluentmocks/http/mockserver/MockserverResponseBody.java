@@ -37,9 +37,9 @@ public class MockserverResponseBody extends AbstractResponseBody {
   public BodyWithContentType<?> toMockserverBody() {
     return switch (format) {
       case EMPTY -> StringBody.exact("");
-      case RAW -> StringBody.exact(new String(bytes, UTF_8));
-      case RAW_BYTES -> BinaryBody.binary(bytes);
-      case JSON -> JsonBody.json(new String(bytes, UTF_8));
+      case RAW -> StringBody.exact(new String(bytes(), UTF_8));
+      case RAW_BYTES -> BinaryBody.binary(bytes());
+      case JSON -> JsonBody.json(new String(bytes(), UTF_8));
     };
   }
 }
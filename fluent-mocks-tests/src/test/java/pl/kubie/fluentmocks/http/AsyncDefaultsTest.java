@@ -0,0 +1,61 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpMockTimes;
+import pl.kubie.fluentmocks.http.api.HttpVerification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AsyncDefaultsTest {
+
+  HttpMock mock = Mockito.mock(HttpMock.class, CALLS_REAL_METHODS);
+  HttpMockTimes times = Mockito.mock(HttpMockTimes.class, CALLS_REAL_METHODS);
+  HttpVerification verification = Mockito.mock(HttpVerification.class);
+
+  @Test
+  void should_stub_asynchronously_with_blocking_methods() {
+    // given
+    when(times.unlimited()).thenReturn(mock);
+    when(times.exactly(2)).thenReturn(mock);
+    when(times.once()).thenReturn(mock);
+
+    // expect
+    assertThat(times.unlimitedAsync().join()).isSameAs(mock);
+    assertThat(times.exactlyAsync(2).join()).isSameAs(mock);
+    assertThat(times.onceAsync().join()).isSameAs(mock);
+  }
+
+  @Test
+  void should_verify_asynchronously_with_blocking_verification() {
+    // given
+    when(mock.verify()).thenReturn(verification);
+    when(verification.exactly(3)).thenReturn(verification);
+
+    // when
+    var verified = mock.verifyAsync().exactly(3).join();
+
+    // then
+    assertThat(verified).isSameAs(verification);
+    verify(verification).exactly(3);
+  }
+}
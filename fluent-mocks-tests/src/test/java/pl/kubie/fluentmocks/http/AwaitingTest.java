@@ -0,0 +1,79 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.common.Awaiting;
+import pl.kubie.fluentmocks.common.RequestSignal;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AwaitingTest {
+
+  @Test
+  void should_pass_once_signalled_request_satisfies_assertion() {
+    // given
+    var signal = new RequestSignal();
+    var received = new AtomicBoolean();
+    CompletableFuture.runAsync(() -> {
+      received.set(true);
+      signal.signal();
+    }, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+    // expect
+    Awaiting.until(() -> assertThat(received).isTrue(), Duration.ofSeconds(3), signal);
+  }
+
+  @Test
+  void should_wake_up_on_signal_before_backoff_expires() {
+    // given
+    var signal = new RequestSignal();
+    var received = new AtomicBoolean();
+    var signalledAt = new AtomicLong();
+    // by then the backoff has grown to 500 ms, the pending wait started at ~630 ms and lasts until ~1130 ms
+    CompletableFuture.runAsync(() -> {
+      received.set(true);
+      signalledAt.set(System.nanoTime());
+      signal.signal();
+    }, CompletableFuture.delayedExecutor(700, TimeUnit.MILLISECONDS));
+
+    // when
+    Awaiting.until(() -> assertThat(received).isTrue(), Duration.ofSeconds(3), signal);
+
+    // then
+    assertThat(Duration.ofNanos(System.nanoTime() - signalledAt.get())).isLessThan(Duration.ofMillis(250));
+  }
+
+  @Test
+  void should_throw_last_assertion_error_when_timed_out() {
+    assertThatThrownBy(() -> Awaiting.until(
+        () -> {
+          throw new AssertionError("not received");
+        },
+        Duration.ofMillis(100),
+        RequestSignal.polling()
+    ))
+        .isInstanceOf(AssertionError.class)
+        .hasMessage("not received");
+  }
+}
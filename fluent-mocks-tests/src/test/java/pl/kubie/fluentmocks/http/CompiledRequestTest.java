@@ -0,0 +1,75 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.common.FileLoader;
+import pl.kubie.fluentmocks.common.JacksonJsonSerializer;
+import pl.kubie.fluentmocks.http.mockserver.MockserverHttpRequestSpec;
+import pl.kubie.fluentmocks.http.mockserver.MockserverRequestBody;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledRequestTest {
+
+  @Test
+  void should_compile_equal_specs_to_equal_requests() {
+    var first = spec("world");
+    var second = spec("world");
+
+    assertThat(first.compile())
+        .isEqualTo(second.compile())
+        .hasSameHashCodeAs(second.compile());
+    assertThat(first.compile()).isNotEqualTo(spec("other").compile());
+  }
+
+  @Test
+  void should_translate_once_until_spec_changes() {
+    var spec = spec("world");
+
+    var translated = spec.build();
+
+    assertThat(spec.build()).isSameAs(translated);
+    spec.header("X-Trace", "1");
+    assertThat(spec.build()).isNotSameAs(translated);
+  }
+
+  @Test
+  void should_reject_missing_path_parameters() {
+    var spec = spec("world");
+    spec.url(url -> url.url("/orders/{id}"));
+
+    assertThatThrownBy(spec::compile)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("id");
+  }
+
+  private static MockserverHttpRequestSpec spec(String message) {
+    var spec = new MockserverHttpRequestSpec(
+        new MockserverRequestBody(new FileLoader(), new JacksonJsonSerializer(new ObjectMapper()))
+    );
+    spec.method("POST")
+        .url(url -> url.url("/test").queryParameter("page", "1"))
+        .header("Accept", "application/json")
+        .body(body -> body.json(new SomeMessage(message)));
+    return spec;
+  }
+
+  record SomeMessage(String message) {
+  }
+}
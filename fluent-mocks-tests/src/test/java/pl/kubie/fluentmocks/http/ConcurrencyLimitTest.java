@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.common.ConcurrencyLimit;
+import pl.kubie.fluentmocks.common.ParallelTasks;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitTest {
+
+  @Test
+  void should_not_run_more_calls_than_allowed_concurrently() {
+    var limit = new ConcurrencyLimit(2);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    ParallelTasks.forEach(
+        IntStream.range(0, 20).boxed().toList(),
+        it -> limit.run(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          sleep();
+          running.decrementAndGet();
+        }),
+        Executors.newVirtualThreadPerTaskExecutor()
+    );
+
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  void should_throw_exception_when_limit_is_not_positive() {
+    assertThatThrownBy(() -> new ConcurrencyLimit(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(10);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.http.api.MockScope;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubber;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubberConfig;
+
+import java.util.function.Supplier;
+
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Constants.TEST_URL;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+public class CorrelationHeaderTest {
+
+  private static final String HEADER = "X-Test-Id";
+
+  JdkHttpStubber stubber = JdkHttpStubberConfig.configure()
+      .correlationHeader(HEADER)
+      .build();
+
+  @AfterEach
+  void close() {
+    stubber.close();
+  }
+
+  @Test
+  void should_verify_only_requests_tagged_with_scope() {
+    // given
+    var first = inScope("first", () -> stubber.with(stubGetEndpoint()).respond().unlimited());
+    var second = inScope("second", () -> stubber.with(stubGetEndpoint()).respond().unlimited());
+
+    // when
+    callTagged("first");
+    callTagged("second");
+    callTagged("second");
+
+    // then
+    inScope("first", () -> first.verify().once());
+    inScope("second", () -> second.verify().exactly(2));
+  }
+
+  @Test
+  void should_clear_only_requests_tagged_with_scope() {
+    // given
+    var second = inScope("second", () -> stubber.with(stubGetEndpoint()).respond().unlimited());
+    inScope("first", () -> stubber.with(stubGetEndpoint()).respond().unlimited());
+    callTagged("first");
+    callTagged("second");
+
+    // when
+    inScope("first", () -> {
+      stubber.clearMocks();
+      return null;
+    });
+
+    // then
+    inScope("second", () -> second.verify().once());
+  }
+
+  private void callTagged(String tag) {
+    call(stubber)
+        .header(HEADER, tag)
+        .when()
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+  }
+
+  private static <T> T inScope(String scope, Supplier<T> action) {
+    MockScope.enter(scope);
+    try {
+      return action.get();
+    } finally {
+      MockScope.exit();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import pl.kubie.fluentmocks.http.api.HttpMockSpec;
+import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.testing.StubberTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubPostEndpoint;
+import static pl.kubie.fluentmocks.http.testing.Constants.NOT_FOUND_404;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Constants.TEST_URL;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+public class DefaultBatchTest {
+
+  @StubberTest
+  void should_stub_batch_one_by_one_when_stubber_does_not_buffer(HttpStubber stubber) {
+    // given
+    var unbuffered = new UnbufferedStubber(stubber);
+
+    // when
+    var mocks = unbuffered.batch(batch -> {
+      batch.with(stubGetEndpoint())
+          .respond()
+          .unlimited();
+      batch.with(stubPostEndpoint())
+          .respond()
+          .onceAsync()
+          .join();
+    });
+
+    // then
+    assertThat(mocks).hasSize(2);
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+    mocks.get(0).verify().once();
+    mocks.get(1).verify().exactly(2);
+  }
+
+  private record UnbufferedStubber(HttpStubber stubber) implements HttpStubber {
+
+    @Override
+    public HttpMockSpec stub() {
+      return stubber.stub();
+    }
+
+    @Override
+    public String host() {
+      return stubber.host();
+    }
+
+    @Override
+    public int port() {
+      return stubber.port();
+    }
+
+    @Override
+    public void clearMocks() {
+      stubber.clearMocks();
+    }
+  }
+}
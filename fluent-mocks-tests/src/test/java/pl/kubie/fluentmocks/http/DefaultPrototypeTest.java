@@ -0,0 +1,95 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import pl.kubie.fluentmocks.http.api.HttpMockSpec;
+import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.testing.StubberTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.kubie.fluentmocks.http.api.http.HttpMethod.GET;
+import static pl.kubie.fluentmocks.http.testing.Constants.NOT_FOUND_404;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+public class DefaultPrototypeTest {
+
+  @StubberTest
+  void should_replay_prototype_when_stubber_does_not_provide_prototypes(HttpStubber stubber) {
+    // given
+    var prototype = new PlainStubber(stubber).prototype(stub -> stub
+        .when(request -> request.method(GET)
+            .url(url -> url.url("/orders/{id}")))
+        .respond(response -> response.statusCode(OK_200))
+    );
+
+    // when
+    prototype.instantiate(Map.of("id", "1"))
+        .once();
+
+    // then
+    call(stubber)
+        .get("/orders/1")
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .get("/orders/2")
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
+
+  @StubberTest
+  void should_reject_overrides_of_replayed_prototype(HttpStubber stubber) {
+    // given
+    var prototype = new PlainStubber(stubber).prototype(stub -> stub
+        .when(request -> request.method(GET)
+            .url(url -> url.url("/orders/{id}")))
+        .respond(response -> response.statusCode(OK_200))
+    );
+
+    // expect
+    assertThatThrownBy(() -> prototype.instantiate(variant -> variant.responseOverride("message", "\"first\"")))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessageContaining("PlainStubber");
+  }
+
+  private record PlainStubber(HttpStubber stubber) implements HttpStubber {
+
+    @Override
+    public HttpMockSpec stub() {
+      return stubber.stub();
+    }
+
+    @Override
+    public String host() {
+      return stubber.host();
+    }
+
+    @Override
+    public int port() {
+      return stubber.port();
+    }
+
+    @Override
+    public void clearMocks() {
+      stubber.clearMocks();
+    }
+  }
+}
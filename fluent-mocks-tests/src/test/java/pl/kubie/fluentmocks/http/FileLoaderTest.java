@@ -19,6 +19,11 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import pl.kubie.fluentmocks.common.FileLoader;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class FileLoaderTest {
 
   @Test
@@ -27,4 +32,52 @@ class FileLoaderTest {
         .isNotNull();
   }
 
-}
\ No newline at end of file
+  @Test
+  void should_serve_repeated_loads_from_cache() {
+    var fileLoader = new FileLoader();
+
+    var first = fileLoader.load("/payloads/sample.json");
+    var second = fileLoader.load("/payloads/sample.json");
+
+    assertThat(second).isSameAs(first);
+    assertThat(fileLoader.stats())
+        .isEqualTo(new FileLoader.Stats(1, 1, 0, 1, first.length));
+  }
+
+  @Test
+  void should_evict_least_recently_used_files_above_budget() {
+    var fileLoader = new FileLoader(50);
+
+    fileLoader.load("/payloads/sample.json");
+    fileLoader.load("/payloads/sample-overridden.json");
+    fileLoader.load("/payloads/sample.json");
+    fileLoader.load("/payloads/image.png");
+
+    assertThat(fileLoader.stats())
+        .isEqualTo(new FileLoader.Stats(0, 4, 2, 1, 18));
+  }
+
+  @Test
+  void should_prefetch_files() {
+    var fileLoader = new FileLoader();
+
+    fileLoader.prefetch(List.of("/payloads/sample.json", "/payloads/image.png")).join();
+    fileLoader.load("/payloads/image.png");
+
+    assertThat(fileLoader.stats().hits()).isEqualTo(1);
+    assertThat(fileLoader.stats().misses()).isZero();
+    assertThat(fileLoader.stats().entries()).isEqualTo(2);
+  }
+
+  @Test
+  void should_reject_prefetch_after_close() {
+    var fileLoader = new FileLoader();
+    fileLoader.prefetch(List.of("/payloads/sample.json")).join();
+
+    fileLoader.close();
+
+    assertThatThrownBy(() -> fileLoader.prefetch(List.of("/payloads/image.png")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+}
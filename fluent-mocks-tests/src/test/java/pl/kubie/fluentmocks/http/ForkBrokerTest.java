@@ -0,0 +1,130 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.kubie.fluentmocks.http.junit.ForkBroker;
+import pl.kubie.fluentmocks.http.junit.ForkBroker.Backend;
+import pl.kubie.fluentmocks.http.junit.ForkBroker.Endpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ForkBrokerTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void should_start_instances_once_and_hand_out_distinct_ones() throws Exception {
+    try (
+        var first = ForkBroker.in(directory).instances(2);
+        var second = ForkBroker.in(directory).instances(2)
+    ) {
+      // when
+      var firstLease = first.lease(SocketBackend.class);
+      var secondLease = second.lease(SocketBackend.class);
+
+      // then
+      assertThat(firstLease.fork()).isZero();
+      assertThat(secondLease.fork()).isEqualTo(1);
+      assertThat(firstLease.endpoint("socket")).isNotEqualTo(secondLease.endpoint("socket"));
+      assertThat(first.lease(SocketBackend.class)).isSameAs(firstLease);
+    }
+    awaitStopped();
+  }
+
+  @Test
+  void should_keep_instances_until_every_fork_released_them() throws Exception {
+    // given
+    var first = ForkBroker.in(directory);
+    var second = ForkBroker.in(directory);
+    var endpoint = first.lease(SocketBackend.class).endpoint("socket");
+    second.lease(SocketBackend.class);
+
+    // when
+    first.close();
+
+    // then
+    assertThat(reachable(endpoint)).isTrue();
+
+    // when
+    second.close();
+
+    // then
+    awaitStopped();
+    var deadline = Instant.now().plus(Duration.ofSeconds(10));
+    while (reachable(endpoint) && Instant.now().isBefore(deadline)) {
+      Thread.sleep(100);
+    }
+    assertThat(reachable(endpoint)).isFalse();
+  }
+
+  private void awaitStopped() throws InterruptedException {
+    var state = directory.resolve("broker.properties");
+    var deadline = Instant.now().plus(Duration.ofSeconds(10));
+    while (Files.exists(state) && Instant.now().isBefore(deadline)) {
+      Thread.sleep(100);
+    }
+    assertThat(state).doesNotExist();
+  }
+
+  private static boolean reachable(Endpoint endpoint) {
+    try (var ignored = new Socket(endpoint.host(), endpoint.port())) {
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  static class SocketBackend implements Supplier<Backend> {
+
+    @Override
+    public Backend get() {
+      try {
+        var socket = new ServerSocket(0);
+        return new Backend() {
+          @Override
+          public Map<String, Endpoint> endpoints() {
+            return Map.of("socket", new Endpoint("localhost", socket.getLocalPort()));
+          }
+
+          @Override
+          public void stop() {
+            try {
+              socket.close();
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }
+        };
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
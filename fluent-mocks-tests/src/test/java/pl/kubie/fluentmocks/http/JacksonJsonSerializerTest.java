@@ -17,9 +17,14 @@ package pl.kubie.fluentmocks.http;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.Test;
 import pl.kubie.fluentmocks.common.JacksonJsonSerializer;
 
+import java.io.ByteArrayOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JacksonJsonSerializerTest {
@@ -32,6 +37,51 @@ class JacksonJsonSerializerTest {
         .isNotNull();
   }
 
+  @Test
+  void should_write_json_bytes() {
+    var tested = new JacksonJsonSerializer(new ObjectMapper());
+
+    assertThat(tested.toJsonBytes(new Item("zażółć", 2)))
+        .isEqualTo("{\"name\":\"zażółć\",\"count\":2}".getBytes(UTF_8));
+  }
+
+  @Test
+  void should_write_json_to_stream_without_closing_it() {
+    var tested = new JacksonJsonSerializer(new ObjectMapper());
+    var output = new ByteArrayOutputStream() {
+      boolean closed;
+
+      @Override
+      public void close() {
+        closed = true;
+      }
+    };
+
+    tested.writeTo(output, new Item("a", 1));
+    tested.writeTo(output, new Item("b", 2));
+
+    assertThat(output.toString(UTF_8)).isEqualTo("{\"name\":\"a\",\"count\":1}{\"name\":\"b\",\"count\":2}");
+    assertThat(output.closed).isFalse();
+  }
+
+  @Test
+  void should_follow_mapper_configured_after_first_write() {
+    var objectMapper = new ObjectMapper();
+    var tested = new JacksonJsonSerializer(objectMapper);
+    tested.toJson(new Item("a", 1));
+
+    objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+    assertThat(tested.toJson(new Item("a", 1))).isEqualTo("""
+        {
+          "name" : "a",
+          "count" : 1
+        }""");
+  }
+
+  record Item(String name, int count) {
+  }
+
   record Boom() {
     @JsonValue
     String value() {
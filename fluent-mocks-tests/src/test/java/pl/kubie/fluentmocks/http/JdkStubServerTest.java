@@ -0,0 +1,72 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubber;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubberConfig;
+
+import static pl.kubie.fluentmocks.http.api.http.HttpMethod.GET;
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
+import static pl.kubie.fluentmocks.http.testing.Constants.NOT_FOUND_404;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Constants.TEST_URL;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+public class JdkStubServerTest {
+
+  JdkHttpStubber stubber = JdkHttpStubberConfig.configure()
+      .maxJournalEntries(2)
+      .build();
+
+  @AfterEach
+  void close() {
+    stubber.close();
+  }
+
+  @Test
+  void should_try_method_and_any_method_stubs_newest_first() {
+    // given
+    stubber.when(request -> request.url(TEST_URL))
+        .respond(response -> response.statusCode(OK_200))
+        .unlimited();
+    stubber.when(request -> request.method(GET).url(TEST_URL))
+        .respond(response -> response.statusCode(201))
+        .once();
+
+    // expect
+    call(stubber).get(TEST_URL).then().statusCode(201);
+    call(stubber).get(TEST_URL).then().statusCode(NOT_FOUND_404);
+    call(stubber).post(TEST_URL).then().statusCode(OK_200);
+  }
+
+  @Test
+  void should_keep_only_latest_requests_in_journal() {
+    // given
+    var mock = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+
+    // when
+    call(stubber).get(TEST_URL).then().statusCode(OK_200);
+    call(stubber).get(TEST_URL).then().statusCode(OK_200);
+    call(stubber).get(TEST_URL).then().statusCode(OK_200);
+
+    // then
+    mock.verify().exactly(2);
+  }
+}
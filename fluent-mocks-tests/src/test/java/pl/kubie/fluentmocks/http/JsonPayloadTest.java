@@ -0,0 +1,83 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.common.JsonOverride;
+import pl.kubie.fluentmocks.common.JsonPayload;
+
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPayloadTest {
+
+  private static final String DOCUMENT = """
+      {"id":1,"items":[{"name":"a","price":10},{"name":"b","price":20}],"meta":{"owner":"x"}}
+      """;
+
+  @Test
+  void should_override_simple_paths() {
+    var result = override(
+        new JsonOverride("$.items[1].price", "25"),
+        new JsonOverride("$['meta'].owner", "{\"name\":\"y\"}"),
+        new JsonOverride("id", "2")
+    );
+
+    assertThat(result).isEqualTo("""
+        {"id":2,"items":[{"name":"a","price":10},{"name":"b","price":25}],"meta":{"owner":{"name":"y"}}}""");
+  }
+
+  @Test
+  void should_override_paths_with_filter_expressions() {
+    var result = override(new JsonOverride("$.items[?(@.name == 'a')].price", "15"));
+
+    assertThat(result).isEqualTo("""
+        {"id":1,"items":[{"name":"a","price":15},{"name":"b","price":20}],"meta":{"owner":"x"}}""");
+  }
+
+  @Test
+  void should_override_nested_path_of_overridden_value() {
+    var result = override(
+        new JsonOverride("$.meta", "{\"owner\":\"y\"}"),
+        new JsonOverride("$.meta.owner", "\"z\"")
+    );
+
+    assertThat(result).isEqualTo("""
+        {"id":1,"items":[{"name":"a","price":10},{"name":"b","price":20}],"meta":{"owner":"z"}}""");
+  }
+
+  @Test
+  void should_keep_exact_number_text_outside_overridden_paths() {
+    var document = """
+        {"id":1,"amount":0.1000000000000000055511151231257827,"rates":[1.10,12345678901234567890.5]}
+        """;
+
+    var result = override(document, new JsonOverride("$.id", "2"));
+
+    assertThat(result).isEqualTo("""
+        {"id":2,"amount":0.1000000000000000055511151231257827,"rates":[1.10,12345678901234567890.5]}""");
+  }
+
+  private static String override(JsonOverride... overrides) {
+    return override(DOCUMENT, overrides);
+  }
+
+  private static String override(String document, JsonOverride... overrides) {
+    return new String(JsonPayload.overrideJson(document.getBytes(UTF_8), UTF_8, List.of(overrides)), UTF_8);
+  }
+}
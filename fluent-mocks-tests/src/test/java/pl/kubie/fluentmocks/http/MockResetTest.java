@@ -20,12 +20,21 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import org.assertj.core.api.ListAssert;
 import org.jetbrains.annotations.NotNull;
+import pl.kubie.fluentmocks.http.api.MockScope;
+import pl.kubie.fluentmocks.http.mockserver.MockserverHttpStubber;
+import pl.kubie.fluentmocks.http.mockserver.MockserverHttpStubberConfig;
 import pl.kubie.fluentmocks.http.testing.StubberTest;
+import pl.kubie.fluentmocks.http.testing.UseMockserver;
 import pl.kubie.fluentmocks.http.testing.UseWiremock;
 import pl.kubie.fluentmocks.http.wiremock.WireMockHttpStubber;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubPostEndpoint;
+import static pl.kubie.fluentmocks.http.testing.Constants.NOT_FOUND_404;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Constants.TEST_URL;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
 
 public class MockResetTest {
   @StubberTest
@@ -47,6 +56,68 @@ public class MockResetTest {
     assertNoStubs(stubber);
   }
 
+  @StubberTest
+  @UseWiremock
+  void wiremock_should_clear_test_and_global_mocks_together(WireMockHttpStubber stubber) {
+    // given
+    stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+    MockScope.enter("test");
+    try {
+      stubber.with(stubPostEndpoint())
+          .respond()
+          .unlimited();
+      call(stubber)
+          .get(TEST_URL)
+          .then()
+          .assertThat()
+          .statusCode(OK_200);
+      assertStubCount(stubber, 2);
+
+      // when
+      stubber.clearMocksWithGlobal();
+    } finally {
+      MockScope.exit();
+    }
+
+    // then
+    assertNoStubs(stubber);
+    assertJournal(stubber).isEmpty();
+  }
+
+  @StubberTest
+  @UseMockserver
+  void mockserver_should_keep_expectations_of_other_sessions(MockserverHttpStubber stubber) {
+    // given
+    var other = MockserverHttpStubberConfig.configure()
+        .host(stubber.host())
+        .port(stubber.port())
+        .build();
+    other.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+    stubber.with(stubPostEndpoint())
+        .respond()
+        .unlimited();
+
+    // when
+    stubber.clearMocks();
+
+    // then
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+    other.clearMocks();
+  }
+
   private static @NotNull ListAssert<ServeEvent> assertJournal(WireMockHttpStubber stubber) {
     return assertThat(stubber.client().getServeEvents());
   }
@@ -0,0 +1,101 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.MockScope;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubber;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubberConfig;
+import pl.kubie.fluentmocks.http.junit.CustomStubber;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
+import static pl.kubie.fluentmocks.http.testing.Constants.NOT_FOUND_404;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Constants.TEST_URL;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class MockScopeTest {
+
+  static JdkHttpStubber stubber = JdkHttpStubberConfig.configure().build();
+
+  @RegisterExtension
+  static CustomStubberTest.TestStubber testStubber = new CustomStubberTest.TestStubber(stubber);
+
+  static HttpMock globalMock;
+
+  @BeforeAll
+  static void stubGlobalMock() {
+    globalMock = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+  }
+
+  @AfterAll
+  static void closeStubber() {
+    stubber.close();
+  }
+
+  @Test
+  @Order(1)
+  void should_serve_global_mock_in_first_test() {
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+
+    globalMock.verify().once();
+  }
+
+  @Test
+  @Order(2)
+  void should_clear_global_mock_and_journal_after_previous_test() {
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+
+    globalMock.verify().once();
+  }
+
+  @Test
+  @Order(3)
+  void should_not_leak_scope_into_pooled_threads() throws Exception {
+    try (var executor = Executors.newFixedThreadPool(1)) {
+      executor.submit(() -> {
+      }).get();
+
+      var scope = CompletableFuture.supplyAsync(MockScope::current, executor).join();
+      var propagated = CompletableFuture.supplyAsync(MockScope::current, MockScope.propagating(executor)).join();
+
+      assertThat(scope).isEqualTo(MockScope.GLOBAL);
+      assertThat(propagated).isEqualTo(MockScope.current()).isNotEqualTo(MockScope.GLOBAL);
+    }
+  }
+}
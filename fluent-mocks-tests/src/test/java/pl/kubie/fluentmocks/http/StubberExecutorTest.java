@@ -0,0 +1,58 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.common.StubberExecutor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StubberExecutorTest {
+
+  @Test
+  void should_shut_down_created_executor_on_close() {
+    // given
+    var stubberExecutor = StubberExecutor.of(null);
+
+    // when
+    stubberExecutor.closing(() -> {
+    }).run();
+
+    // then
+    assertThatThrownBy(() -> stubberExecutor.executor().execute(() -> {
+    }))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  void should_leave_configured_executor_running_on_close() {
+    try (var configured = Executors.newSingleThreadExecutor()) {
+      // given
+      var stubberExecutor = StubberExecutor.of(configured);
+
+      // when
+      stubberExecutor.closing(() -> {
+      }).run();
+
+      // then
+      assertThat(configured.isShutdown()).isFalse();
+    }
+  }
+}
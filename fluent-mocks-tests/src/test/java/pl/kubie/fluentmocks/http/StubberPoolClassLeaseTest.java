@@ -0,0 +1,82 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
+import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.junit.StubberPool;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+public class StubberPoolClassLeaseTest {
+
+  static final List<HttpStubber> started = new CopyOnWriteArrayList<>();
+
+  @RegisterExtension
+  static StubberPool pool = new StubberPool(() -> {
+    var stubber = Mockito.mock(HttpStubber.class);
+    started.add(stubber);
+    return stubber;
+  }, 2);
+
+  @Nested
+  @Order(1)
+  class FirstClass {
+
+    static HttpStubber leased;
+
+    @BeforeAll
+    static void lease(HttpStubber stubber) {
+      leased = stubber;
+    }
+
+    @Test
+    void should_share_class_lease_with_tests(HttpStubber stubber) {
+      assertThat(stubber).isSameAs(leased);
+    }
+  }
+
+  @Nested
+  @Order(2)
+  class SecondClass {
+
+    static HttpStubber leased;
+
+    @BeforeAll
+    static void lease(HttpStubber stubber) {
+      leased = stubber;
+    }
+
+    @Test
+    void should_lease_stubber_released_by_previous_class() {
+      assertThat(started).containsExactly(leased);
+      verify(leased, times(1)).clearMocks();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
+import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.junit.StubberPool;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class StubberPoolTest {
+
+  static final List<HttpStubber> started = new CopyOnWriteArrayList<>();
+
+  @RegisterExtension
+  static StubberPool pool = new StubberPool(() -> {
+    var stubber = Mockito.mock(HttpStubber.class);
+    started.add(stubber);
+    return stubber;
+  });
+
+  @Test
+  @Order(1)
+  void should_start_stubber_lazily_on_first_lease(HttpStubber stubber) {
+    assertThat(started).containsExactly(stubber);
+  }
+
+  @Test
+  @Order(2)
+  void should_reuse_released_stubber_after_clearing_mocks(HttpStubber stubber) {
+    assertThat(started).containsExactly(stubber);
+    verify(stubber, times(1)).clearMocks();
+  }
+}
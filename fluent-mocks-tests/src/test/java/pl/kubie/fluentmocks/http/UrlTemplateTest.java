@@ -0,0 +1,65 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.common.UrlTemplate;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UrlTemplateTest {
+
+  @Test
+  void should_parse_template_once() {
+    var template = UrlTemplate.of("/orders/{id}/items/{itemId}");
+
+    assertThat(UrlTemplate.of("/orders/{id}/items/{itemId}")).isSameAs(template);
+    assertThat(template.variableNames()).containsExactlyInAnyOrder("id", "itemId");
+    assertThatThrownBy(() -> template.variableNames().add("other"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_expand_variables() {
+    var template = UrlTemplate.of("/orders/{id}/items/{itemId}.json");
+
+    assertThat(template.expand(Map.of("id", "1", "itemId", "a")))
+        .isEqualTo("/orders/1/items/a.json");
+  }
+
+  @Test
+  void should_reject_missing_variables() {
+    var template = UrlTemplate.of("/orders/{id}/items/{itemId}");
+
+    assertThat(template.missingVariables(Set.of("id"))).containsExactly("itemId");
+    assertThatThrownBy(() -> template.validate(Set.of("id")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Missing value for path parameter(s) [itemId] in URL template '/orders/{id}/items/{itemId}'");
+  }
+
+  @Test
+  void should_treat_template_without_variables_as_literal() {
+    var template = UrlTemplate.of("/health");
+
+    assertThat(template.variableNames()).isEmpty();
+    assertThat(template.expand(Map.of())).isEqualTo("/health");
+    assertThat(UrlTemplate.of("/health")).isNotSameAs(template);
+  }
+}
@@ -0,0 +1,154 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.kubie.fluentmocks.common.ConcurrencyLimit;
+import pl.kubie.fluentmocks.common.RequestSignal;
+import pl.kubie.fluentmocks.http.api.MockScope;
+import pl.kubie.fluentmocks.http.wiremock.WireMockBodyStore;
+import pl.kubie.fluentmocks.http.wiremock.WireMockClient;
+import pl.kubie.fluentmocks.http.wiremock.WireMockFiles;
+import pl.kubie.fluentmocks.http.wiremock.WireMockHttpStubberConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static pl.kubie.fluentmocks.http.testing.Constants.OK_200;
+import static pl.kubie.fluentmocks.http.testing.Constants.TEST_URL;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+public class WireMockBodyStoreTest {
+
+  private static final String BODY = "x".repeat(2048);
+
+  List<String> uploads = new CopyOnWriteArrayList<>();
+  List<String> deletes = new CopyOnWriteArrayList<>();
+  WireMockBodyStore store = new WireMockBodyStore(client(new CountingFiles()), 1024);
+
+  @Test
+  void should_upload_same_body_once_per_scope() {
+    // when
+    var first = store.fileFor(BODY.getBytes());
+    var second = store.fileFor(BODY.getBytes());
+    var small = store.fileFor("small".getBytes());
+    var other = inScope("other", () -> store.fileFor(BODY.getBytes()));
+
+    // then
+    assertThat(uploads).hasSize(2);
+    assertThat(first).isEqualTo(second);
+    assertThat(small).isEmpty();
+    assertThat(other).isNotEqualTo(first);
+  }
+
+  @Test
+  void should_delete_files_of_cleared_scope_only() {
+    // given
+    var global = store.fileFor(BODY.getBytes()).orElseThrow();
+    var other = inScope("other", () -> store.fileFor(BODY.getBytes()).orElseThrow());
+
+    // when
+    store.clear();
+
+    // then
+    assertThat(deletes).containsExactly(global);
+
+    // and when
+    store.close();
+
+    // then
+    assertThat(deletes).containsExactly(global, other);
+  }
+
+  @Test
+  void should_serve_stored_body_and_delete_file_on_clear(@TempDir Path root) throws IOException {
+    // given
+    Files.createDirectories(root.resolve("__files"));
+    var stubber = WireMockHttpStubberConfig.configure()
+        .objectMapper(new ObjectMapper())
+        .embedded(options -> options.usingFilesUnderDirectory(root.toString()))
+        .bodyStore(true)
+        .bodyStoreThreshold(1024)
+        .build();
+    try {
+      stubber.when(request -> request.url(TEST_URL))
+          .respond(response -> response.statusCode(OK_200).body(body -> body.raw(BODY)))
+          .unlimited();
+
+      // expect
+      call(stubber).get(TEST_URL).then().statusCode(OK_200).body(equalTo(BODY));
+      assertThat(files(root)).hasSize(1);
+
+      // when
+      stubber.clearMocks();
+
+      // then
+      assertThat(files(root)).isEmpty();
+    } finally {
+      stubber.close();
+    }
+  }
+
+  private static List<Path> files(Path root) throws IOException {
+    try (var files = Files.list(root.resolve("__files"))) {
+      return files.toList();
+    }
+  }
+
+  private static WireMockClient client(WireMockFiles files) {
+    return new WireMockClient(
+        "localhost",
+        0,
+        null,
+        null,
+        false,
+        Runnable::run,
+        new ConcurrencyLimit(1),
+        RequestSignal.polling(),
+        files
+    );
+  }
+
+  private static <T> T inScope(String scope, Supplier<T> action) {
+    MockScope.enter(scope);
+    try {
+      return action.get();
+    } finally {
+      MockScope.exit();
+    }
+  }
+
+  private class CountingFiles implements WireMockFiles {
+
+    @Override
+    public void write(String name, byte[] content) {
+      uploads.add(name);
+    }
+
+    @Override
+    public void delete(String name) {
+      deletes.add(name);
+    }
+  }
+}
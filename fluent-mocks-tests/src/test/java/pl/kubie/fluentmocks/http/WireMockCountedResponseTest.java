@@ -0,0 +1,69 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.kubie.fluentmocks.http.wiremock.WireMockCountedResponseTransformer;
+import pl.kubie.fluentmocks.http.wiremock.WireMockHttpStubber;
+import pl.kubie.fluentmocks.http.wiremock.WireMockHttpStubberConfig;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
+import static pl.kubie.fluentmocks.http.testing.Http.call;
+
+public class WireMockCountedResponseTest {
+
+  WireMockServer server = new WireMockServer(options()
+      .dynamicPort()
+      .extensions(new WireMockCountedResponseTransformer()));
+
+  WireMockHttpStubber stubber;
+
+  @BeforeEach
+  void setUp() {
+    server.start();
+    stubber = WireMockHttpStubberConfig.configure()
+        .objectMapper(new ObjectMapper())
+        .local(server.port())
+        .countingExtension(true)
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  void should_serve_exactly_n_responses_from_single_mapping() {
+    // given
+    stubber.with(stubGetEndpoint())
+        .respond()
+        .exactly(3);
+
+    // expect
+    assertThat(server.getStubMappings()).hasSize(1);
+    for (int i = 0; i < 3; i++) {
+      call(stubber).get("/test").then().statusCode(200);
+    }
+    call(stubber).get("/test").then().statusCode(404);
+  }
+}
@@ -18,14 +18,19 @@ package pl.kubie.fluentmocks.http.scenarios;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.params.ParameterizedTest;
 import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.api.MockScope;
 import pl.kubie.fluentmocks.http.testing.Parameter;
 import pl.kubie.fluentmocks.http.testing.StubberTest;
 import pl.kubie.fluentmocks.http.testing.Times;
+import pl.kubie.fluentmocks.http.testing.UseJdk;
+import pl.kubie.fluentmocks.http.testing.UseWiremock;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.commons.io.IOUtils.resourceToByteArray;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -199,6 +204,34 @@ public class StubbingTest {
 
   }
 
+  // Mockserver matches expectations in creation order, so the older stub would serve every request there
+  @StubberTest
+  @UseWiremock
+  @UseJdk
+  void should_return_not_found_when_newest_matching_stub_exhausted(HttpStubber stubber) {
+    // given
+    stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+    stubber.with(stubGetEndpoint())
+        .respond()
+        .exactly(2);
+
+    Times.run(2, () -> call(stubber)
+        .when()
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200));
+
+    // expect
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
+
   @StubberTest
   void should_stub_endpoint_for_matching_specified_body(HttpStubber stubber) {
     // given
@@ -373,6 +406,36 @@ public class StubbingTest {
         .body("message", equalTo("overridden"));
   }
 
+  @StubberTest
+  void should_apply_multiple_overrides_to_json_response_body(HttpStubber stubber) {
+    // given
+    stubber.with(stubPostEndpoint())
+        .respond(response -> response
+            .statusCode(200)
+            .contentType("application/json")
+            .body(body -> body
+                .json("""
+                    {"message":"original","nested":{"count":1,"tags":["a","b"]}}
+                    """)
+                .override("message", "overridden")
+                .override("$.nested.count", "2")
+                .override("$.nested.tags[1]", new SomeRecord("c"))
+            )
+        )
+        .unlimited();
+
+    // when
+    call(stubber)
+        .post("/test")
+        .then()
+        .assertThat()
+        .statusCode(200)
+        .body("message", equalTo("overridden"))
+        .body("nested.count", equalTo(2))
+        .body("nested.tags[0]", equalTo("a"))
+        .body("nested.tags[1].message", equalTo("c"));
+  }
+
   @StubberTest
   void should_stub_endpoint_request_body_from_serialized_object(HttpStubber stubber) {
     // given
@@ -696,4 +759,247 @@ public class StubbingTest {
     assertThat(duration.toMillis()).isLessThan(500);
   }
 
+  @StubberTest
+  void should_stub_endpoints_in_batch(HttpStubber stubber) {
+    // given
+    var mocks = stubber.batch(batch -> {
+      batch.with(stubGetEndpoint())
+          .respond()
+          .unlimited();
+      batch.with(stubPostEndpoint())
+          .respond()
+          .once();
+    });
+
+    // expect
+    assertThat(mocks).hasSize(2);
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
+
+  // Mockserver matches expectations in creation order, the other backends serve the newest stub
+  @StubberTest
+  @UseWiremock
+  @UseJdk
+  void should_serve_later_stub_when_batched_stubs_overlap(HttpStubber stubber) {
+    // given
+    stubber.batch(batch -> {
+      batch.with(stubGetEndpoint())
+          .respond(response -> response.statusCode(NOT_FOUND_404))
+          .unlimited();
+      batch.with(stubGetEndpoint())
+          .respond(response -> response.statusCode(OK_200))
+          .unlimited();
+    });
+
+    // expect
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+  }
+
+  @StubberTest
+  void should_send_batched_stubs_when_batch_fails(HttpStubber stubber) {
+    // when
+    assertThatThrownBy(() -> stubber.batch(batch -> {
+      batch.with(stubGetEndpoint())
+          .respond()
+          .unlimited();
+      throw new IllegalStateException("batch failed");
+    })).isInstanceOf(IllegalStateException.class)
+        .hasMessage("batch failed");
+
+    // then
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+  }
+
+  @StubberTest
+  void should_stub_endpoints_asynchronously(HttpStubber stubber) {
+    // given
+    CompletableFuture.allOf(
+        stubber.with(stubGetEndpoint())
+            .respond()
+            .unlimitedAsync(),
+        stubber.with(stubPostEndpoint())
+            .respond()
+            .onceAsync()
+    ).join();
+
+    // expect
+    call(stubber)
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+    call(stubber)
+        .post(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
+
+  @StubberTest
+  void should_instantiate_variants_of_prototype(HttpStubber stubber) {
+    // given
+    var prototype = stubber.prototype(stub -> stub
+        .when(request -> request.method(GET)
+            .url(url -> url.url("/orders/{id}")))
+        .respond(response -> response
+            .statusCode(OK_200)
+            .contentType("application/json")
+            .body(body -> body.json(new SomeRecord("original")))
+        )
+    );
+
+    // when
+    prototype.instantiate(variant -> variant
+            .pathParameter("id", "1")
+            .responseOverride("message", new SomeRecord("first")))
+        .unlimited();
+    prototype.instantiate(Map.of("id", "2"))
+        .once();
+
+    // then
+    call(stubber)
+        .get("/orders/1")
+        .then()
+        .assertThat()
+        .statusCode(OK_200)
+        .body("message.message", equalTo("first"));
+
+    call(stubber)
+        .get("/orders/2")
+        .then()
+        .assertThat()
+        .statusCode(OK_200)
+        .body("message", equalTo("original"));
+
+    call(stubber)
+        .get("/orders/3")
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
+
+  @StubberTest
+  void should_reject_registering_prototype_directly(HttpStubber stubber) {
+    assertThatThrownBy(() -> stubber.prototype(stub -> stub
+        .with(stubGetEndpoint())
+        .respond(response -> response.statusCode(OK_200))
+        .once()
+    ))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("instantiate");
+    assertThatThrownBy(() -> stubber.prototype(stub -> stub.with(stubGetEndpoint()).times()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @StubberTest
+  void should_instantiate_prototype_variants_with_request_body_overrides(HttpStubber stubber) {
+    // given
+    var prototype = stubber.prototype(stub -> stub
+        .with(stubPostEndpoint())
+        .when(request -> request.body(body -> body.json("""
+            {"message":"original"}
+            """)))
+        .respond(response -> response.statusCode(OK_200))
+    );
+
+    // when
+    prototype.instantiate(variant -> variant.requestOverride("message", "first")).unlimited();
+    prototype.instantiate(variant -> variant.requestOverride("message", "second")).unlimited();
+
+    // then
+    call(stubber)
+        .body("""
+            {"message":"second"}
+            """)
+        .when()
+        .post("/test")
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+
+    call(stubber)
+        .body("""
+            {"message":"original"}
+            """)
+        .when()
+        .post("/test")
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
+
+  @StubberTest
+  void should_clear_only_mocks_of_current_scope(HttpStubber stubber) {
+    // given
+    MockScope.enter("other-test");
+    try {
+      stubber.when(request -> request.method(GET).url("/other"))
+          .respond(response -> response.statusCode(OK_200))
+          .unlimited();
+    } finally {
+      MockScope.exit();
+    }
+    stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+
+    // when
+    stubber.clearMocks();
+
+    // then
+    call(stubber)
+        .when()
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+
+    call(stubber)
+        .when()
+        .get("/other")
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+
+    MockScope.enter("other-test");
+    try {
+      stubber.clearMocks();
+    } finally {
+      MockScope.exit();
+    }
+
+    call(stubber)
+        .when()
+        .get("/other")
+        .then()
+        .assertThat()
+        .statusCode(NOT_FOUND_404);
+  }
 }
@@ -21,6 +21,8 @@ import pl.kubie.fluentmocks.http.testing.Parameter;
 import pl.kubie.fluentmocks.http.testing.StubberTest;
 import pl.kubie.fluentmocks.http.testing.Times;
 
+import java.util.concurrent.CompletionException;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubGetEndpoint;
 import static pl.kubie.fluentmocks.http.scenarios.TestStubbing.stubPostEndpoint;
@@ -407,4 +409,103 @@ public class VerificationTest {
         .hasMessageContainingAll("foo", "bar", "baz");
   }
 
+  @StubberTest
+  void verification_should_pass_asynchronously(HttpStubber stubber) {
+    // given
+    var mock = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+
+    // when
+    call(stubber)
+        .when()
+        .get(TEST_URL)
+        .then()
+        .assertThat()
+        .statusCode(OK_200);
+
+    // then
+    mock.verifyAsync()
+        .once()
+        .join();
+  }
+
+  @StubberTest
+  void asynchronous_verification_should_fail_when_stub_not_interacted(HttpStubber stubber) {
+    // given
+    var mock = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+
+    // expect
+    assertThatThrownBy(() -> mock.verifyAsync().once().join())
+        .isInstanceOf(CompletionException.class)
+        .cause()
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining(TEST_URL);
+  }
+
+  @StubberTest
+  void should_verify_all_mocks_against_single_journal(HttpStubber stubber) {
+    // given
+    var get = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+    var post = stubber.with(stubPostEndpoint())
+        .respond()
+        .unlimited();
+    var notCalled = stubber.when(request -> request.url("/not-called"))
+        .respond(response -> response.statusCode(OK_200))
+        .unlimited();
+
+    // when
+    call(stubber).when().get(TEST_URL).then().statusCode(OK_200);
+    call(stubber).when().post(TEST_URL).then().statusCode(OK_200);
+    call(stubber).when().post(TEST_URL).then().statusCode(OK_200);
+
+    // then
+    stubber.verifyAll(verify -> {
+      verify.that(get).once();
+      verify.that(post).exactly(2).between(1, 2);
+      verify.that(notCalled).never();
+    });
+  }
+
+  @StubberTest
+  void should_report_all_failed_verifications_together(HttpStubber stubber) {
+    // given
+    var get = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+    var post = stubber.with(stubPostEndpoint())
+        .respond()
+        .unlimited();
+
+    // when
+    call(stubber).when().get(TEST_URL).then().statusCode(OK_200);
+
+    // expect
+    assertThatThrownBy(() -> stubber.verifyAll(verify -> {
+      verify.that(get).exactly(2);
+      verify.that(post).once();
+    }))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContainingAll("2 of 2 verifications failed", "but received 1", "but received 0");
+  }
+
+  @StubberTest
+  void should_count_each_check_of_mock_as_verification(HttpStubber stubber) {
+    // given
+    var get = stubber.with(stubGetEndpoint())
+        .respond()
+        .unlimited();
+
+    // when
+    call(stubber).when().get(TEST_URL).then().statusCode(OK_200);
+
+    // expect
+    assertThatThrownBy(() -> stubber.verifyAll(verify -> verify.that(get).exactly(2).between(1, 3)))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContainingAll("1 of 3 verifications failed", "Expected exactly 2", "but received 1");
+  }
 }
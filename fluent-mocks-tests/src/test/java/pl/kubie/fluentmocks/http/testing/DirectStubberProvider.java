@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.jdk.JdkHttpStubberConfig;
 import pl.kubie.fluentmocks.http.mockserver.MockserverHttpStubberConfig;
 import pl.kubie.fluentmocks.http.wiremock.WireMockHttpStubberConfig;
 
@@ -109,7 +110,11 @@ public class DirectStubberProvider implements ArgumentsProvider {
     List<HttpStubber> stubbers = new ArrayList<>();
     if (noneMatch(testMethod)) {
       stubbers.add(wiremockArgument());
+      stubbers.add(embeddedWiremockArgument());
+      stubbers.add(bodyStoreWiremockArgument());
       stubbers.add(mockserverArgument());
+      stubbers.add(embeddedMockserverArgument());
+      stubbers.add(jdkArgument());
     }
     if (testMethod.isAnnotationPresent(UseWiremock.class)) {
       stubbers.add(wiremockArgument());
@@ -117,12 +122,17 @@ public class DirectStubberProvider implements ArgumentsProvider {
     if (testMethod.isAnnotationPresent(UseMockserver.class)) {
       stubbers.add(mockserverArgument());
     }
+    if (testMethod.isAnnotationPresent(UseJdk.class)) {
+      stubbers.add(jdkArgument());
+    }
     context.getStore(ExtensionContext.Namespace.GLOBAL).put(STUBBERS_KEY, stubbers);
     return stubbers;
   }
 
   private static boolean noneMatch(Method testMethod) {
-    return !testMethod.isAnnotationPresent(UseWiremock.class) && !testMethod.isAnnotationPresent(UseMockserver.class);
+    return !testMethod.isAnnotationPresent(UseWiremock.class)
+        && !testMethod.isAnnotationPresent(UseMockserver.class)
+        && !testMethod.isAnnotationPresent(UseJdk.class);
   }
 
   private HttpStubber mockserverArgument() {
@@ -133,20 +143,69 @@ public class DirectStubberProvider implements ArgumentsProvider {
     return stubbers.computeIfAbsent(UseWiremock.KEY, key -> wiremockHttpStubber());
   }
 
+  private HttpStubber bodyStoreWiremockArgument() {
+    return stubbers.computeIfAbsent(UseWiremock.BODY_STORE_KEY, key -> bodyStoreWiremockHttpStubber());
+  }
+
+  private HttpStubber embeddedWiremockArgument() {
+    return stubbers.computeIfAbsent(UseWiremock.EMBEDDED_KEY, key -> embeddedWiremockHttpStubber());
+  }
+
+  private HttpStubber embeddedMockserverArgument() {
+    return stubbers.computeIfAbsent(UseMockserver.EMBEDDED_KEY, key -> embeddedMockserverHttpStubber());
+  }
+
+  private HttpStubber jdkArgument() {
+    return stubbers.computeIfAbsent(UseJdk.KEY, key -> jdkHttpStubber());
+  }
+
   private HttpStubber mockserverHttpStubber() {
-    log.info("Creating mockserver stubber for port {}", MockContainers.mockserverContainer.getServerPort());
+    log.info("Creating mockserver stubber for port {}", MockContainers.mockserver().port());
     return MockserverHttpStubberConfig.configure()
         .objectMapper(objectMapper)
         .host("localhost")
-        .port(MockContainers.mockserverContainer.getServerPort())
+        .port(MockContainers.mockserver().port())
+        .build();
+  }
+
+  private HttpStubber embeddedMockserverHttpStubber() {
+    log.info("Creating embedded mockserver stubber");
+    return MockserverHttpStubberConfig.configure()
+        .objectMapper(objectMapper)
+        .embedded(configuration -> configuration.nioEventLoopThreadCount(4))
+        .build();
+  }
+
+  private HttpStubber jdkHttpStubber() {
+    log.info("Creating JDK stubber");
+    return JdkHttpStubberConfig.configure()
+        .objectMapper(objectMapper)
         .build();
   }
 
   private HttpStubber wiremockHttpStubber() {
-    log.info("Creating wiremock stubber for port {}", MockContainers.wiremockContainer.getPort());
+    log.info("Creating wiremock stubber for port {}", MockContainers.wiremock().port());
+    return WireMockHttpStubberConfig.configure()
+        .objectMapper(objectMapper)
+        .local(MockContainers.wiremock().port())
+        .build();
+  }
+
+  private HttpStubber bodyStoreWiremockHttpStubber() {
+    log.info("Creating wiremock stubber with body store for port {}", MockContainers.wiremock().port());
+    return WireMockHttpStubberConfig.configure()
+        .objectMapper(objectMapper)
+        .local(MockContainers.wiremock().port())
+        .bodyStore(true)
+        .bodyStoreThreshold(256)
+        .build();
+  }
+
+  private HttpStubber embeddedWiremockHttpStubber() {
+    log.info("Creating embedded wiremock stubber");
     return WireMockHttpStubberConfig.configure()
         .objectMapper(objectMapper)
-        .local(MockContainers.wiremockContainer.getPort())
+        .embedded(options -> options.maxRequestJournalEntries(1000))
         .build();
   }
 
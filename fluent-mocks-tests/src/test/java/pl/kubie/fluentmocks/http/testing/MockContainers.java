@@ -21,33 +21,65 @@ import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.lifecycle.Startables;
 import org.testcontainers.utility.DockerImageName;
 import org.wiremock.integrations.testcontainers.WireMockContainer;
+import pl.kubie.fluentmocks.http.junit.ForkBroker;
 
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 @Slf4j
 public class MockContainers {
 
-  public static final WireMockContainer wiremockContainer;
-  public static final MockServerContainer mockserverContainer;
+  private static final ForkBroker.Lease lease = ForkBroker.in(Path.of("target", "fluent-mocks-broker"))
+      .instances(Integer.getInteger("fluentmocks.brokered.instances", 1))
+      .lease(Starter.class);
 
-  static {
-    wiremockContainer = wiremockContainer();
-    mockserverContainer = mockserverContainer();
-    Startables.deepStart(Stream.of(wiremockContainer, mockserverContainer)).join();
+  public static ForkBroker.Endpoint wiremock() {
+    return lease.endpoint("wiremock");
   }
 
-  private static MockServerContainer mockserverContainer() {
-    return new MockServerContainer(
-        DockerImageName.parse("mockserver/mockserver:latest")
-    );
-//        .withLogConsumer(new Slf4jLogConsumer(log));
+  public static ForkBroker.Endpoint mockserver() {
+    return lease.endpoint("mockserver");
   }
 
-  private static WireMockContainer wiremockContainer() {
+  // runs in the broker host, so it must not touch the lease above
+  public static class Starter implements Supplier<ForkBroker.Backend> {
 
-    return new WireMockContainer("wiremock/wiremock:3x")
-//        .withLogConsumer(new Slf4jLogConsumer(log))
-        .withBanner();
-  }
+    @Override
+    public ForkBroker.Backend get() {
+      var wiremockContainer = wiremockContainer();
+      var mockserverContainer = mockserverContainer();
+      Startables.deepStart(Stream.of(wiremockContainer, mockserverContainer)).join();
+      return new ForkBroker.Backend() {
+        @Override
+        public Map<String, ForkBroker.Endpoint> endpoints() {
+          return Map.of(
+              "wiremock", new ForkBroker.Endpoint(wiremockContainer.getHost(), wiremockContainer.getPort()),
+              "mockserver", new ForkBroker.Endpoint(mockserverContainer.getHost(), mockserverContainer.getServerPort())
+          );
+        }
+
+        @Override
+        public void stop() {
+          wiremockContainer.stop();
+          mockserverContainer.stop();
+        }
+      };
+    }
+
+    private static MockServerContainer mockserverContainer() {
+      return new MockServerContainer(
+          DockerImageName.parse("mockserver/mockserver:latest")
+      );
+//          .withLogConsumer(new Slf4jLogConsumer(log));
+    }
 
+    private static WireMockContainer wiremockContainer() {
+
+      return new WireMockContainer("wiremock/wiremock:3x")
+//          .withLogConsumer(new Slf4jLogConsumer(log))
+          .withBanner();
+    }
+  }
 }
@@ -24,4 +24,5 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface UseMockserver {
   String KEY = "mockserver";
+  String EMBEDDED_KEY = "mockserver-embedded";
 }
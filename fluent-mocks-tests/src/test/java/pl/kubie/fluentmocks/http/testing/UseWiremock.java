@@ -25,4 +25,6 @@ import java.lang.annotation.Target;
 public @interface UseWiremock {
 
   String KEY = "wiremock";
+  String EMBEDDED_KEY = "wiremock-embedded";
+  String BODY_STORE_KEY = "wiremock-body-store";
 }
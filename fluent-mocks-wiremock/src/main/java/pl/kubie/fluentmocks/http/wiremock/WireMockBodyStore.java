@@ -0,0 +1,107 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import pl.kubie.fluentmocks.common.ContentHash;
+import pl.kubie.fluentmocks.http.api.MockScope;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Uploads large response bodies to WireMock {@code __files} once per test scope. Files of a scope are deleted
+ * when its mocks are cleared, so they never outlive the mappings referencing them.
+ */
+public class WireMockBodyStore {
+
+  private static final String FILE_PREFIX = "fluent-mocks-";
+
+  private final WireMockClient client;
+  private final int threshold;
+  private final Map<String, Map<String, CompletableFuture<String>>> filesByScope = new ConcurrentHashMap<>();
+
+  public WireMockBodyStore(WireMockClient client, int threshold) {
+    this.client = client;
+    this.threshold = threshold;
+  }
+
+  public static WireMockBodyStore disabled() {
+    return new WireMockBodyStore(null, Integer.MAX_VALUE);
+  }
+
+  public Optional<String> fileFor(byte[] body) {
+    if (body == null || body.length < threshold) {
+      return Optional.empty();
+    }
+    var scope = MockScope.current();
+    var files = filesByScope.computeIfAbsent(scope, key -> new ConcurrentHashMap<>());
+    var hash = ContentHash.of(body);
+    var upload = new CompletableFuture<String>();
+    var existing = files.putIfAbsent(hash, upload);
+    if (existing != null) {
+      return Optional.of(existing.join());
+    }
+    // uploaded outside the map, other threads stubbing the same body wait for the future
+    var fileName = fileName(scope, hash);
+    try {
+      client.writeFile(fileName, body);
+      upload.complete(fileName);
+    } catch (RuntimeException e) {
+      files.remove(hash, upload);
+      upload.completeExceptionally(e);
+      throw e;
+    }
+    return Optional.of(fileName);
+  }
+
+  public void clear() {
+    var files = filesByScope.remove(MockScope.current());
+    if (files != null) {
+      delete(files);
+    }
+  }
+
+  public void clearAll() {
+    filesByScope.keySet().forEach(scope -> {
+      var files = filesByScope.remove(scope);
+      if (files != null) {
+        delete(files);
+      }
+    });
+  }
+
+  public void close() {
+    clearAll();
+  }
+
+  private void delete(Map<String, CompletableFuture<String>> files) {
+    var names = files.values()
+        .stream()
+        .filter(upload -> upload.isDone() && !upload.isCompletedExceptionally())
+        .map(CompletableFuture::join)
+        .toList();
+    client.deleteFiles(names);
+  }
+
+  private String fileName(String scope, String hash) {
+    var owner = ContentHash.of((client.session() + "/" + scope).getBytes(UTF_8)).substring(0, 16);
+    return FILE_PREFIX + owner + "-" + hash;
+  }
+}
@@ -18,64 +18,177 @@ package pl.kubie.fluentmocks.http.wiremock;
 import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Metadata;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import lombok.extern.slf4j.Slf4j;
+import pl.kubie.fluentmocks.common.ConcurrencyLimit;
 import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.ParallelTasks;
+import pl.kubie.fluentmocks.common.RequestSignal;
+import pl.kubie.fluentmocks.http.api.MockScope;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 
 @Slf4j
 public record WireMockClient(
     String host,
     int port,
     WireMock wireMock,
-    JsonSerializer serializer
+    JsonSerializer serializer,
+    boolean countingExtension,
+    Executor executor,
+    ConcurrencyLimit limit,
+    String session,
+    RequestSignal signal,
+    WireMockFiles files,
+    WireMockStubBatch batch
 ) {
 
-  public WireMockClient(String host, int port, JsonSerializer serializer) {
+  static final String SESSION_METADATA = "fluentMocksSession";
+
+  public WireMockClient(
+      String host,
+      int port,
+      WireMock wireMock,
+      JsonSerializer serializer,
+      boolean countingExtension,
+      Executor executor,
+      ConcurrencyLimit limit,
+      RequestSignal signal,
+      WireMockFiles files
+  ) {
     this(
         host,
         port,
-        new WireMock(host, port),
-        serializer
+        wireMock,
+        serializer,
+        countingExtension,
+        executor,
+        limit,
+        UUID.randomUUID().toString(),
+        signal,
+        files,
+        null
+    );
+  }
+
+  public WireMockClient batched(int batchSize) {
+    return new WireMockClient(
+        host,
+        port,
+        wireMock,
+        serializer,
+        countingExtension,
+        executor,
+        limit,
+        session,
+        signal,
+        files,
+        new WireMockStubBatch(wireMock, batchSize)
     );
   }
 
   public StubMapping register(MappingBuilder mappingBuilder) {
+    mappingBuilder.withMetadata(Metadata.metadata().attr(SESSION_METADATA, sessionTag()));
+    if (isBatching()) {
+      log.info("Adding WireMock mapping to batch {} {} {}", host, port, mappingBuilder);
+      return batch.add(mappingBuilder);
+    }
     log.info("Registering WireMock mapping {} {} {}", host, port, mappingBuilder);
-    return wireMock.register(mappingBuilder);
+    return limit.call(() -> wireMock.register(mappingBuilder));
   }
 
   public void setSingleScenarioState(String scenario, String state) {
-    log.info("Setting single scenario {} to state {}", scenario, state);
-    wireMock.setSingleScenarioState(scenario, state);
+    if (isBatching()) {
+      batch.afterFlush(() -> updateScenarioState(scenario, state));
+    } else {
+      updateScenarioState(scenario, state);
+    }
+  }
+
+  public void flush() {
+    if (isBatching()) {
+      batch.flush();
+    }
   }
 
   public void verifyThat(CountMatchingStrategy expectedCount, RequestPatternBuilder requestPattern) {
+    flush();
     log.info("Verifying that {} requests matching request pattern {}", expectedCount, requestPattern);
-    wireMock.verifyThat(expectedCount, requestPattern);
+    limit.run(() -> wireMock.verifyThat(expectedCount, requestPattern));
   }
 
-  public void removeAll(Collection<WireMockHttpMock> mocks) {
-    mocks.forEach(mock ->
-        mock.mappings.forEach(mapping -> {
-              log.info("Removing stub mapping {}", mapping.getId());
-              wireMock.removeStubMapping(mapping);
-            }
-        )
-    );
-    /*
-    here we are resetting request journal in wiremock
-    because it is shared between different tests for now it actually prevents to run tests in parallel.
+  public List<LoggedRequest> findAll() {
+    flush();
+    log.info("Fetching WireMock request journal {} {}", host, port);
+    return limit.call(() -> wireMock.find(RequestPatternBuilder.allRequests()));
+  }
+
+  public void removeAll(Collection<WireMockHttpMock> mocks, boolean resetRequests) {
+    var tag = sessionTag();
+    log.info("Removing {} mocks of session {}", mocks.size(), tag);
+    remove(equalTo(tag), resetRequests);
+  }
 
-    There are 2 possible solutions to this problem:
-    1. Implement different strategy for matching requests to don't have to reset journal.
-    2. Run separate instance of wiremock for each thread which is executing tests.
+  public void removeSession(Collection<WireMockHttpMock> mocks, boolean resetRequests) {
+    log.info("Removing {} mocks of every scope of session {}", mocks.size(), session);
+    remove(matching(Pattern.quote(session + "/") + ".*"), resetRequests);
+  }
 
-    We should decide what how we want to solve it.
+  private void remove(StringValuePattern sessionTag, boolean resetRequests) {
+    /*
+    every mapping registered by this client is stamped with session and scope,
+    so all of them go in one call, including mappings of mocks that failed half way.
+    Scenarios are dropped by WireMock together with their last mapping.
+    */
+    limit.run(() -> wireMock.removeStubsByMetadataPattern(matchingJsonPath("$." + SESSION_METADATA, sessionTag)));
+    /*
+    request journal is shared between all tests using this server,
+    so it is reset only when no other test scope has mocks registered
+    and requests are not tagged with a correlation header.
     */
-    wireMock.resetRequests();
+    if (resetRequests) {
+      limit.run(wireMock::resetRequests);
+    }
+  }
+
+  public void removeRequests(String header, String tag) {
+    log.info("Removing requests with header {}: {}", header, tag);
+    limit.run(() -> wireMock.removeEvents(RequestPatternBuilder.allRequests().withHeader(header, equalTo(tag))));
+  }
+
+  public void writeFile(String name, byte[] content) {
+    log.info("Uploading WireMock file {} ({} bytes)", name, content.length);
+    limit.run(() -> files.write(name, content));
+  }
+
+  public void deleteFiles(Collection<String> names) {
+    log.info("Deleting {} WireMock files", names.size());
+    ParallelTasks.forEach(names, name -> limit.run(() -> files.delete(name)), executor);
+  }
+
+  private String sessionTag() {
+    return session + "/" + MockScope.current();
+  }
+
+  private boolean isBatching() {
+    return batch != null;
+  }
+
+  private void updateScenarioState(String scenario, String state) {
+    log.info("Setting single scenario {} to state {}", scenario, state);
+    limit.run(() -> wireMock.setSingleScenarioState(scenario, state));
   }
 
 }
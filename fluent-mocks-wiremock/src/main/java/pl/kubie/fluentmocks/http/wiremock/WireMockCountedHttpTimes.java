@@ -0,0 +1,39 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import lombok.Value;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.like;
+import static pl.kubie.fluentmocks.http.wiremock.WireMockCountedResponseTransformer.NAME;
+import static pl.kubie.fluentmocks.http.wiremock.WireMockCountedResponseTransformer.TIMES_PARAMETER;
+
+@Value
+public class WireMockCountedHttpTimes {
+  WireMockHttpRequestSpec request;
+  WireMockHttpResponseSpec response;
+  WireMockClient wireMockClient;
+
+  public WireMockHttpMock times(int times) {
+    var responseDefinition = like(response.build().build())
+        .withTransformers(NAME)
+        .withTransformerParameter(TIMES_PARAMETER, times);
+    var mapping = wireMockClient.register(request.mapping().willReturn(responseDefinition));
+    return new WireMockHttpMock(request, List.of(mapping), wireMockClient);
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WireMock server extension serving the stubbed response only given number of times,
+ * after that stub responds with 404. Must be loaded by WireMock server to use
+ * {@link WireMockHttpStubberConfig#countingExtension(boolean)}.
+ */
+public class WireMockCountedResponseTransformer implements ResponseDefinitionTransformerV2, StubLifecycleListener {
+
+  public static final String NAME = "fluent-mocks-counted-response";
+  public static final String TIMES_PARAMETER = "times";
+
+  private final Map<UUID, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public ResponseDefinition transform(ServeEvent serveEvent) {
+    var times = serveEvent.getTransformerParameters().getInt(TIMES_PARAMETER);
+    var served = counters.computeIfAbsent(serveEvent.getStubMapping().getId(), id -> new AtomicInteger())
+        .incrementAndGet();
+    return served <= times
+        ? serveEvent.getResponseDefinition()
+        : ResponseDefinition.notFound();
+  }
+
+  @Override
+  public boolean applyGlobally() {
+    return false;
+  }
+
+  @Override
+  public void afterStubRemoved(StubMapping stub) {
+    counters.remove(stub.getId());
+  }
+
+  @Override
+  public void afterStubsReset() {
+    counters.clear();
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+}
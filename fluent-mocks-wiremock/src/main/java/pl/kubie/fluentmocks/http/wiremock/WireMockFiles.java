@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+
+/**
+ * Files of WireMock {@code __files} directory, response bodies can reference them by name.
+ */
+public interface WireMockFiles {
+
+  void write(String name, byte[] content);
+
+  void delete(String name);
+
+  static WireMockFiles of(FileSource files) {
+    return new WireMockFiles() {
+      @Override
+      public void write(String name, byte[] content) {
+        files.writeBinaryFile(name, content);
+      }
+
+      @Override
+      public void delete(String name) {
+        files.deleteFile(name);
+      }
+    };
+  }
+
+  static WireMockFiles remote(String host, int port, CloseableHttpClient httpClient) {
+    return new WireMockRemoteFiles("http://%s:%d/__admin/files/".formatted(host, port), httpClient);
+  }
+}
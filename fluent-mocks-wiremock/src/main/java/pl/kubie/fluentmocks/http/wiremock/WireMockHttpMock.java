@@ -18,8 +18,10 @@ package pl.kubie.fluentmocks.http.wiremock;
 import com.github.tomakehurst.wiremock.client.CountMatchingStrategy;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
-import org.awaitility.Awaitility;
+import pl.kubie.fluentmocks.common.Awaiting;
 import pl.kubie.fluentmocks.common.ThrowingRunnable;
+import pl.kubie.fluentmocks.http.api.AsyncHttpVerification;
+import pl.kubie.fluentmocks.http.api.ExecutorAsyncHttpVerification;
 import pl.kubie.fluentmocks.http.api.HttpMock;
 import pl.kubie.fluentmocks.http.api.HttpVerification;
 
@@ -87,9 +89,7 @@ public class WireMockHttpMock implements HttpMock, HttpVerification {
   private HttpVerification verify(CountMatchingStrategy expectedCount) {
     ThrowingRunnable verification = () -> wireMockClient.verifyThat(expectedCount, request.pattern());
     if (awaitTimeout != null) {
-      Awaitility.await()
-          .atMost(awaitTimeout)
-          .untilAsserted(verification::run);
+      Awaiting.until(verification, awaitTimeout, wireMockClient.signal());
     } else {
       verification.run();
     }
@@ -100,4 +100,9 @@ public class WireMockHttpMock implements HttpMock, HttpVerification {
   public HttpVerification verify() {
     return this;
   }
+
+  @Override
+  public AsyncHttpVerification verifyAsync() {
+    return new ExecutorAsyncHttpVerification(this, wireMockClient.executor());
+  }
 }
@@ -61,7 +61,7 @@ public class WireMockHttpResponseSpec implements MockHttpResponseSpec {
   }
 
   public ResponseDefinitionBuilder build() {
-    delegate.withResponseBody(body.toWireMockBody());
+    body.applyTo(delegate);
     return delegate;
   }
 
@@ -16,25 +16,74 @@
 package pl.kubie.fluentmocks.http.wiremock;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
-import lombok.RequiredArgsConstructor;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.jetbrains.annotations.NotNull;
+import pl.kubie.fluentmocks.common.CorrelationHeader;
 import pl.kubie.fluentmocks.common.FileLoader;
+import pl.kubie.fluentmocks.common.JournalVerifications;
 import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.MockRegistry;
+import pl.kubie.fluentmocks.common.StubPrototype;
+import pl.kubie.fluentmocks.http.api.CloseableHttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpMock;
+import pl.kubie.fluentmocks.http.api.HttpMockPrototype;
 import pl.kubie.fluentmocks.http.api.HttpMockSpec;
 import pl.kubie.fluentmocks.http.api.HttpStubber;
+import pl.kubie.fluentmocks.http.api.HttpVerifications;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 
-@RequiredArgsConstructor
-public class WireMockHttpStubber implements HttpStubber {
+public class WireMockHttpStubber implements CloseableHttpStubber {
 
   private final WireMockClient wireMockClient;
   private final FileLoader fileLoader;
   private final JsonSerializer serializer;
-  private final List<WireMockHttpMock> mocks = new ArrayList<>();
+  private final MockRegistry<WireMockHttpMock> mocks;
+  private final Consumer<WireMockHttpMock> onMockCreated;
   private final Consumer<HttpMockSpec> onEach;
+  private final int batchSize;
+  private final Runnable onClose;
+  private final WireMockBodyStore bodyStore;
+  private final CorrelationHeader correlation;
+
+  public WireMockHttpStubber(
+      WireMockClient wireMockClient,
+      FileLoader fileLoader,
+      JsonSerializer serializer,
+      Consumer<HttpMockSpec> onEach,
+      int batchSize,
+      Runnable onClose,
+      WireMockBodyStore bodyStore,
+      CorrelationHeader correlation
+  ) {
+    this(wireMockClient, fileLoader, serializer, new MockRegistry<>(), null, onEach, batchSize, onClose, bodyStore, correlation);
+  }
+
+  private WireMockHttpStubber(
+      WireMockClient wireMockClient,
+      FileLoader fileLoader,
+      JsonSerializer serializer,
+      MockRegistry<WireMockHttpMock> mocks,
+      Consumer<WireMockHttpMock> onMockCreated,
+      Consumer<HttpMockSpec> onEach,
+      int batchSize,
+      Runnable onClose,
+      WireMockBodyStore bodyStore,
+      CorrelationHeader correlation
+  ) {
+    this.wireMockClient = wireMockClient;
+    this.fileLoader = fileLoader;
+    this.serializer = serializer;
+    this.mocks = mocks;
+    this.onMockCreated = onMockCreated != null ? onMockCreated : mocks::register;
+    this.onEach = onEach;
+    this.batchSize = batchSize;
+    this.onClose = onClose;
+    this.bodyStore = bodyStore;
+    this.correlation = correlation;
+  }
 
   @Override
   public HttpMockSpec stub() {
@@ -43,18 +92,59 @@ public class WireMockHttpStubber implements HttpStubber {
         response(),
         wireMockClient,
         serializer,
-        mocks::add
+        onMockCreated
     );
     onEach.accept(mock);
     return mock;
   }
 
+  @Override
+  public HttpMockPrototype prototype(Consumer<HttpMockSpec> onPrototype) {
+    return new StubPrototype(this::stub, onPrototype);
+  }
+
+  @Override
+  public List<HttpMock> batch(Consumer<HttpStubber> onBatch) {
+    var batchClient = wireMockClient.batched(batchSize);
+    var batched = new ConcurrentLinkedQueue<HttpMock>();
+    Consumer<WireMockHttpMock> onBatchMock = mock -> {
+      mocks.register(mock);
+      batched.add(mock);
+    };
+    try {
+      onBatch.accept(new WireMockHttpStubber(batchClient, fileLoader, serializer, mocks, onBatchMock, onEach, batchSize, () -> {
+      }, bodyStore, correlation));
+    } finally {
+      // mocks stubbed before a failure are already registered for clearMocks, so they are sent as well
+      batchClient.flush();
+    }
+    return List.copyOf(batched);
+  }
+
   private @NotNull WireMockHttpResponseSpec response() {
-    return new WireMockHttpResponseSpec(new WireMockResponseBody(fileLoader, serializer));
+    return new WireMockHttpResponseSpec(new WireMockResponseBody(fileLoader, serializer, bodyStore));
   }
 
   private @NotNull WireMockHttpRequestSpec request() {
-    return new WireMockHttpRequestSpec(new WireMockRequestBody(fileLoader, serializer));
+    var request = new WireMockHttpRequestSpec(new WireMockRequestBody(fileLoader, serializer));
+    correlation.applyTo(request);
+    return request;
+  }
+
+  @Override
+  public void verifyAll(Consumer<HttpVerifications> onVerifications) {
+    var verifications = new JournalVerifications<WireMockHttpMock, LoggedRequest>(
+        WireMockHttpMock.class,
+        mock -> {
+          var pattern = mock.request.pattern().build();
+          return request -> pattern.match(request).isExactMatch();
+        },
+        mock -> mock.request.pattern().build()
+    );
+    onVerifications.accept(verifications);
+    if (!verifications.isEmpty()) {
+      verifications.verify(wireMockClient.findAll());
+    }
   }
 
   @Override
@@ -69,8 +159,33 @@ public class WireMockHttpStubber implements HttpStubber {
 
   @Override
   public void clearMocks() {
-    wireMockClient.removeAll(mocks);
-    mocks.clear();
+    var scopeMocks = mocks.drainCurrent();
+    var tag = correlation.tag();
+    wireMockClient.removeAll(scopeMocks, tag.isEmpty() && !mocks.hasTestMocks());
+    tag.ifPresent(it -> wireMockClient.removeRequests(correlation.name(), it));
+    bodyStore.clear();
+  }
+
+  @Override
+  public void clearMocksWithGlobal() {
+    if (mocks.hasOtherScopes()) {
+      CloseableHttpStubber.super.clearMocksWithGlobal();
+      return;
+    }
+    var drained = mocks.drainCurrentAndGlobal();
+    var tag = correlation.tag();
+    wireMockClient.removeSession(drained, tag.isEmpty());
+    tag.ifPresent(it -> wireMockClient.removeRequests(correlation.name(), it));
+    bodyStore.clearAll();
+  }
+
+  @Override
+  public void close() {
+    try {
+      bodyStore.close();
+    } finally {
+      onClose.run();
+    }
   }
 
   @Override
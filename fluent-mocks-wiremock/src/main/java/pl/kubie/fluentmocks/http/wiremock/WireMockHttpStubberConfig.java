@@ -16,19 +16,44 @@
 package pl.kubie.fluentmocks.http.wiremock;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import pl.kubie.fluentmocks.common.ConcurrencyLimit;
+import pl.kubie.fluentmocks.common.CorrelationHeader;
 import pl.kubie.fluentmocks.common.FileLoader;
 import pl.kubie.fluentmocks.common.JacksonJsonSerializer;
+import pl.kubie.fluentmocks.common.JsonSerializer;
+import pl.kubie.fluentmocks.common.RequestSignal;
+import pl.kubie.fluentmocks.common.StubberExecutor;
 import pl.kubie.fluentmocks.http.api.HttpMockSpec;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import static com.github.tomakehurst.wiremock.core.WireMockApp.FILES_ROOT;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
 public class WireMockHttpStubberConfig {
 
   private ObjectMapper objectMapper;
   private String host;
   private int port;
+  private int batchSize = 500;
+  private boolean countingExtension = false;
+  private Executor executor;
+  private int maxConcurrency = 16;
   private Consumer<HttpMockSpec> onEach = mock -> {
   };
+  private Consumer<WireMockConfiguration> embedded;
+  private boolean bodyStore = false;
+  private int bodyStoreThreshold = 16 * 1024;
+  private FileLoader fileLoader = FileLoader.shared();
+  private JsonSerializer serializer;
+  private String correlationHeader;
 
 
   public static WireMockHttpStubberConfig configure() {
@@ -55,17 +80,138 @@ public class WireMockHttpStubberConfig {
     return this;
   }
 
+  public WireMockHttpStubberConfig batchSize(int batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig countingExtension(boolean countingExtension) {
+    this.countingExtension = countingExtension;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig executor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig maxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig embedded() {
+    return embedded(options -> {
+    });
+  }
+
+  public WireMockHttpStubberConfig embedded(Consumer<WireMockConfiguration> embedded) {
+    this.embedded = embedded;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig bodyStore(boolean bodyStore) {
+    this.bodyStore = bodyStore;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig bodyStoreThreshold(int bodyStoreThreshold) {
+    this.bodyStoreThreshold = bodyStoreThreshold;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig serializer(JsonSerializer serializer) {
+    this.serializer = serializer;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig correlationHeader(String correlationHeader) {
+    this.correlationHeader = correlationHeader;
+    return this;
+  }
+
+  public WireMockHttpStubberConfig fileLoader(FileLoader fileLoader) {
+    this.fileLoader = fileLoader;
+    return this;
+  }
+
   public WireMockHttpStubber build() {
-    var serializer = new JacksonJsonSerializer(objectMapper);
+    if (embedded != null) {
+      return buildEmbedded();
+    }
+    if (!bodyStore) {
+      return build(host, port, new WireMock(host, port), null, countingExtension, RequestSignal.polling(), () -> {
+      });
+    }
+    // WireMock's Admin has no file operations, response body files go to the admin files endpoint directly
+    var httpClient = HttpClients.custom()
+        .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnPerRoute(maxConcurrency)
+            .setMaxConnTotal(maxConcurrency)
+            .build())
+        .build();
+    return build(
+        host,
+        port,
+        new WireMock(host, port),
+        WireMockFiles.remote(host, port, httpClient),
+        countingExtension,
+        RequestSignal.polling(),
+        () -> httpClient.close(CloseMode.GRACEFUL)
+    );
+  }
+
+  private WireMockHttpStubber buildEmbedded() {
+    var signal = new RequestSignal();
+    var options = options()
+        .dynamicPort()
+        .extensions(new WireMockCountedResponseTransformer(), new WireMockServeSignal(signal));
+    embedded.accept(options);
+    var server = new WireMockServer(options);
+    server.start();
+    var files = WireMockFiles.of(server.getOptions().filesRoot().child(FILES_ROOT));
+    return build("localhost", server.port(), new WireMock(server), files, true, signal, server::stop);
+  }
+
+  private WireMockHttpStubber build(
+      String host,
+      int port,
+      WireMock wireMock,
+      WireMockFiles files,
+      boolean countingExtension,
+      RequestSignal signal,
+      Runnable onClose
+  ) {
+    var serializer = jsonSerializer();
+    var stubberExecutor = StubberExecutor.of(executor);
+    var client = new WireMockClient(
+        host,
+        port,
+        wireMock,
+        serializer,
+        countingExtension,
+        stubberExecutor.executor(),
+        new ConcurrencyLimit(maxConcurrency),
+        signal,
+        files
+    );
     return new WireMockHttpStubber(
-        new WireMockClient(host, port, serializer),
-        new FileLoader(),
+        client,
+        fileLoader,
         serializer,
-        onEach
+        onEach,
+        batchSize,
+        stubberExecutor.closing(onClose),
+        bodyStore ? new WireMockBodyStore(client, bodyStoreThreshold) : WireMockBodyStore.disabled(),
+        CorrelationHeader.of(correlationHeader)
     );
   }
 
   public WireMockHttpStubberConfig local(Integer port) {
     return host("localhost").port(port);
   }
+
+  private JsonSerializer jsonSerializer() {
+    return serializer != null ? serializer : new JacksonJsonSerializer(objectMapper);
+  }
 }
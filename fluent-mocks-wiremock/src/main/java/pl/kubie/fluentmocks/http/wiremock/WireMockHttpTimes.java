@@ -20,6 +20,7 @@ import pl.kubie.fluentmocks.http.api.HttpMock;
 import pl.kubie.fluentmocks.http.api.HttpMockTimes;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 @Value
@@ -43,8 +44,9 @@ public class WireMockHttpTimes implements HttpMockTimes {
 
   @Override
   public HttpMock exactly(int times) {
-    var mock = new WireMockScenarioHttpTimes(request, response, wireMock)
-        .times(times);
+    var mock = wireMock.countingExtension()
+        ? new WireMockCountedHttpTimes(request, response, wireMock).times(times)
+        : new WireMockScenarioHttpTimes(request, response, wireMock).times(times);
     onMockCreated.accept(mock);
     return mock;
   }
@@ -53,4 +55,19 @@ public class WireMockHttpTimes implements HttpMockTimes {
   public HttpMock once() {
     return exactly(1);
   }
+
+  @Override
+  public CompletableFuture<HttpMock> unlimitedAsync() {
+    return CompletableFuture.supplyAsync(this::unlimited, wireMock.executor());
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> exactlyAsync(int times) {
+    return CompletableFuture.supplyAsync(() -> exactly(times), wireMock.executor());
+  }
+
+  @Override
+  public CompletableFuture<HttpMock> onceAsync() {
+    return exactlyAsync(1);
+  }
 }
@@ -0,0 +1,56 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import org.apache.hc.client5.http.classic.methods.HttpDelete;
+import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+record WireMockRemoteFiles(String filesUrl, CloseableHttpClient httpClient) implements WireMockFiles {
+
+  @Override
+  public void write(String name, byte[] content) {
+    var request = new HttpPut(filesUrl + name);
+    request.setEntity(new ByteArrayEntity(content, ContentType.APPLICATION_OCTET_STREAM));
+    var status = execute(request);
+    if (status / 100 != 2) {
+      throw new IllegalStateException("Could not upload " + name + " to WireMock, status " + status);
+    }
+  }
+
+  @Override
+  public void delete(String name) {
+    var status = execute(new HttpDelete(filesUrl + name));
+    // file already gone, e.g. after server restart
+    if (status / 100 != 2 && status != 404) {
+      throw new IllegalStateException("Could not delete " + name + " from WireMock, status " + status);
+    }
+  }
+
+  private int execute(HttpUriRequestBase request) {
+    try {
+      return httpClient.execute(request, response -> response.getCode());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -15,19 +15,10 @@
  */
 package pl.kubie.fluentmocks.http.wiremock;
 
-import com.github.tomakehurst.wiremock.matching.ContentPattern;
-import org.jetbrains.annotations.NotNull;
 import pl.kubie.fluentmocks.common.AbstractRequestBody;
 import pl.kubie.fluentmocks.common.FileLoader;
 import pl.kubie.fluentmocks.common.JsonSerializer;
 
-import java.util.Optional;
-
-import static com.github.tomakehurst.wiremock.client.WireMock.binaryEqualTo;
-import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
-import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 public class WireMockRequestBody extends AbstractRequestBody {
 
   public WireMockRequestBody(
@@ -36,17 +27,4 @@ public class WireMockRequestBody extends AbstractRequestBody {
   ) {
     super(fileLoader, serializer);
   }
-
-  public Optional<ContentPattern<?>> toContentPattern() {
-    return switch (format) {
-      case EMPTY -> Optional.empty();
-      case RAW_BYTES -> Optional.of(binaryEqualTo(bytes));
-      case RAW -> Optional.of(equalTo(asString()));
-      case JSON -> Optional.of(equalToJson(asString(), false, true));
-    };
-  }
-
-  private @NotNull String asString() {
-    return new String(bytes, UTF_8);
-  }
 }
@@ -0,0 +1,115 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.ContentPattern;
+import com.github.tomakehurst.wiremock.matching.ExactMatchMultiValuePattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import pl.kubie.fluentmocks.common.CompiledBody;
+import pl.kubie.fluentmocks.common.CompiledRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.binaryEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+public record WireMockRequestMatchers(
+    String method,
+    UrlPattern url,
+    Map<String, StringValuePattern> pathParams,
+    Map<String, ExactMatchMultiValuePattern> headers,
+    Map<String, StringValuePattern> cookies,
+    Map<String, ExactMatchMultiValuePattern> queryParams,
+    Optional<ContentPattern<?>> body,
+    RequestPattern pattern
+) {
+
+  public static WireMockRequestMatchers from(CompiledRequest request) {
+    var matchers = new WireMockRequestMatchers(
+        request.method(),
+        urlPathTemplate(request.url().value()),
+        request.pathParams().entrySet().stream().collect(toUnmodifiableMap(Map.Entry::getKey, entry -> equalTo(entry.getValue()))),
+        exactMatch(request.headers()),
+        request.cookies().entrySet().stream().collect(toUnmodifiableMap(Map.Entry::getKey, entry -> equalTo(entry.getValue()))),
+        exactMatch(request.queryParams()),
+        contentPattern(request.body()),
+        null
+    );
+    return matchers.withPattern(matchers.apply(newRequestPattern(RequestMethod.fromString(request.method()), matchers.url())).build());
+  }
+
+  public MappingBuilder mapping() {
+    var mapping = WireMock.request(method, url);
+    pathParams.forEach(mapping::withPathParam);
+    headers.forEach(mapping::withHeader);
+    cookies.forEach(mapping::withCookie);
+    queryParams.forEach(mapping::withQueryParam);
+    body.ifPresent(mapping::withRequestBody);
+    return mapping;
+  }
+
+  public RequestPatternBuilder patternBuilder() {
+    return RequestPatternBuilder.like(pattern);
+  }
+
+  private RequestPatternBuilder apply(RequestPatternBuilder builder) {
+    pathParams.forEach(builder::withPathParam);
+    headers.forEach(builder::withHeader);
+    cookies.forEach(builder::withCookie);
+    queryParams.forEach(builder::withQueryParam);
+    body.ifPresent(builder::withRequestBody);
+    return builder;
+  }
+
+  private WireMockRequestMatchers withPattern(RequestPattern pattern) {
+    return new WireMockRequestMatchers(method, url, pathParams, headers, cookies, queryParams, body, pattern);
+  }
+
+  private static Map<String, ExactMatchMultiValuePattern> exactMatch(Map<String, List<String>> values) {
+    return values.entrySet()
+        .stream()
+        .collect(toUnmodifiableMap(
+            Map.Entry::getKey,
+            entry -> entry.getValue()
+                .stream()
+                .map(WireMock::equalTo)
+                .collect(collectingAndThen(toList(), ExactMatchMultiValuePattern::new))
+        ));
+  }
+
+  private static Optional<ContentPattern<?>> contentPattern(CompiledBody body) {
+    return switch (body.format()) {
+      case EMPTY -> Optional.empty();
+      case RAW_BYTES -> Optional.of(binaryEqualTo(body.bytes()));
+      case RAW -> Optional.of(equalTo(body.text()));
+      case JSON -> Optional.of(equalToJson(body.text(), false, true));
+    };
+  }
+}
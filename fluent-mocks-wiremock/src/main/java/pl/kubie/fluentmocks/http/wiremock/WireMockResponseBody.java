@@ -15,27 +15,43 @@
  */
 package pl.kubie.fluentmocks.http.wiremock;
 
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.http.Body;
 import pl.kubie.fluentmocks.common.AbstractResponseBody;
 import pl.kubie.fluentmocks.common.FileLoader;
 import pl.kubie.fluentmocks.common.JsonSerializer;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static pl.kubie.fluentmocks.common.PayloadFormat.EMPTY;
 
 public class WireMockResponseBody extends AbstractResponseBody {
 
+  private final WireMockBodyStore bodyStore;
+
   public WireMockResponseBody(
       FileLoader fileLoader,
-      JsonSerializer serializer
+      JsonSerializer serializer,
+      WireMockBodyStore bodyStore
   ) {
     super(fileLoader, serializer);
+    this.bodyStore = bodyStore;
+  }
+
+  public void applyTo(ResponseDefinitionBuilder response) {
+    var file = format == EMPTY ? Optional.<String>empty() : bodyStore.fileFor(bytes());
+    file.ifPresentOrElse(
+        response::withBodyFile,
+        () -> response.withResponseBody(toWireMockBody())
+    );
   }
 
   public Body toWireMockBody() {
     return switch (format) {
-      case RAW_BYTES -> Body.fromOneOf(bytes, null, null, null);
-      case RAW -> Body.fromOneOf(null, new String(bytes, StandardCharsets.UTF_8), null, null);
-      case JSON -> Body.fromJsonBytes(bytes);
+      case RAW_BYTES -> Body.fromOneOf(bytes(), null, null, null);
+      case RAW -> Body.fromOneOf(null, new String(bytes(), StandardCharsets.UTF_8), null, null);
+      case JSON -> Body.fromJsonBytes(bytes());
       case EMPTY -> Body.none();
     };
   }
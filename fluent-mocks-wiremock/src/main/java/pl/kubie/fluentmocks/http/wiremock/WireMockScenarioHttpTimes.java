@@ -17,6 +17,7 @@ package pl.kubie.fluentmocks.http.wiremock;
 
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import lombok.Value;
+import pl.kubie.fluentmocks.common.ParallelTasks;
 
 import java.util.UUID;
 import java.util.stream.IntStream;
@@ -32,9 +33,11 @@ public class WireMockScenarioHttpTimes {
 
   public WireMockHttpMock times(int times) {
     String scenario = UUID.randomUUID().toString();
-    var mappings = IntStream.range(0, times)
-        .mapToObj(i -> registerStep(scenario, step(i), step(i + 1)))
-        .toList();
+    var mappings = ParallelTasks.map(
+        IntStream.range(0, times).boxed().toList(),
+        i -> registerStep(scenario, step(i), step(i + 1)),
+        wireMockClient.executor()
+    );
     var finalMapping = registerFinalStep(scenario, step(times));
     wireMockClient.setSingleScenarioState(scenario, "step-0");
     return new WireMockHttpMock(
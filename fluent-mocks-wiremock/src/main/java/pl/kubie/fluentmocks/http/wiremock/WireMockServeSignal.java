@@ -0,0 +1,41 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import lombok.RequiredArgsConstructor;
+import pl.kubie.fluentmocks.common.RequestSignal;
+
+/**
+ * Embedded WireMock server extension waking up awaiting verifications as soon as a request is served.
+ */
+@RequiredArgsConstructor
+class WireMockServeSignal implements ServeEventListener {
+
+  private final RequestSignal signal;
+
+  @Override
+  public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
+    signal.signal();
+  }
+
+  @Override
+  public String getName() {
+    return "fluent-mocks-serve-signal";
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2025 the original author or authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pl.kubie.fluentmocks.http.wiremock;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.stubbing.StubImport;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class WireMockStubBatch {
+
+  private final WireMock wireMock;
+  private final int size;
+  private final List<StubMapping> mappings = new ArrayList<>();
+  private final List<Runnable> afterFlush = new ArrayList<>();
+
+  public synchronized StubMapping add(MappingBuilder mappingBuilder) {
+    var mapping = mappingBuilder.build();
+    mappings.add(mapping);
+    if (mappings.size() >= size) {
+      flush();
+    }
+    return mapping;
+  }
+
+  public synchronized void afterFlush(Runnable action) {
+    afterFlush.add(action);
+  }
+
+  public synchronized void flush() {
+    if (!mappings.isEmpty()) {
+      log.info("Importing {} WireMock mappings", mappings.size());
+      // WireMock imports from the last mapping backwards, so reverse to keep the last buffered stub newest
+      var imported = new ArrayList<>(mappings);
+      Collections.reverse(imported);
+      wireMock.importStubMappings(new StubImport(imported, StubImport.Options.DEFAULTS));
+      mappings.clear();
+    }
+    afterFlush.forEach(Runnable::run);
+    afterFlush.clear();
+  }
+}